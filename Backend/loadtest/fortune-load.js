@@ -0,0 +1,71 @@
+// 플랫폼 스레드 풀 vs 가상 스레드 모드 비교용 k6 부하 테스트
+//
+// 실행 예)
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<accessToken> -e MODE=platform loadtest/fortune-load.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<accessToken> -e MODE=virtual  loadtest/fortune-load.js
+//
+// TOKEN 사용자의 무료 운세 횟수는 충분히 늘려둔 뒤 실행해야 합니다(관리자 API 로 추가).
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const MODE = __ENV.MODE || 'unknown';
+
+const dreamLatency = new Trend('fortune_dream_latency', true);
+const lifelongLatency = new Trend('fortune_lifelong_latency', true);
+const rejected = new Rate('fortune_rejected');
+
+export const options = {
+    tags: { mode: MODE },
+    scenarios: {
+        // AI 호출이 발생하는 요청: 동시 처리량과 429 비율을 본다
+        dream: {
+            executor: 'ramping-vus',
+            exec: 'dream',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 50 },
+                { duration: '1m', target: 200 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+        // AI 호출이 없는 조회 요청: AI 요청이 몰릴 때 일반 요청 지연이 얼마나 늘어나는지 본다
+        lifelong: {
+            executor: 'constant-arrival-rate',
+            exec: 'lifelong',
+            rate: 50,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+        },
+    },
+    thresholds: {
+        fortune_lifelong_latency: ['p(95)<500'],
+    },
+};
+
+const headers = {
+    'Content-Type': 'application/json',
+    Authorization: `Bearer ${TOKEN}`,
+};
+
+export function dream() {
+    const body = JSON.stringify({
+        dreamDescription: '넓은 바다 위를 날아다니는 꿈',
+        dreamAtmosphere: '평온함',
+        keywords: ['FLYING', 'WATER'],
+    });
+    const res = http.post(`${BASE_URL}/api/fortune/dream`, body, { headers, timeout: '120s' });
+    dreamLatency.add(res.timings.duration);
+    rejected.add(res.status === 429);
+    check(res, { 'dream 200 or 429': (r) => r.status === 200 || r.status === 429 });
+}
+
+export function lifelong() {
+    const res = http.get(`${BASE_URL}/api/fortune/lifelong`, { headers });
+    lifelongLatency.add(res.timings.duration);
+    check(res, { 'lifelong 200': (r) => r.status === 200 });
+}
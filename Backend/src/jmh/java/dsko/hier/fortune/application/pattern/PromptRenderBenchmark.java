@@ -0,0 +1,68 @@
+package dsko.hier.fortune.application.pattern;
+
+import dsko.hier.fortune.application.PromptSupplier;
+import dsko.hier.fortune.dto.ai.AIDailyFortuneResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.converter.BeanOutputConverter;
+
+/**
+ * AI 호출 직전까지(프롬프트 렌더링 + 응답 형식 생성 + ChatClient 요청 구성)의 CPU/할당 비용 비교.
+ * <p>
+ * before: 요청마다 PromptTemplate 파싱, BeanOutputConverter(JSON 스키마) 생성, ChatClient 생성 <br> after: PromptTemplateRegistry 와 공유
+ * ChatClient 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptRenderBenchmark {
+
+    private final Map<String, Object> params = Map.of(
+            "name", "홍길동",
+            "birthYear", 1995,
+            "birthMonth", 3,
+            "birthDay", 14,
+            "birthTime", "오시",
+            "sex", "MALE"
+    );
+
+    // 실제 호출은 하지 않으므로 요청 구성까지만 사용
+    private final ChatModel chatModel = prompt -> {
+        throw new UnsupportedOperationException();
+    };
+
+    private PromptTemplateRegistry registry;
+    private ChatClient sharedClient;
+
+    @Setup
+    public void setUp() {
+        registry = new PromptTemplateRegistry();
+        sharedClient = ChatClient.builder(chatModel).build();
+    }
+
+    @Benchmark
+    public Object before() {
+        BeanOutputConverter<AIDailyFortuneResponse> converter = new BeanOutputConverter<>(AIDailyFortuneResponse.class);
+        String userText = new PromptTemplate(PromptSupplier.daily()).create(params).getContents()
+                + System.lineSeparator() + converter.getFormat();
+        return ChatClient.create(chatModel).prompt().user(userText);
+    }
+
+    @Benchmark
+    public Object after() {
+        BeanOutputConverter<AIDailyFortuneResponse> converter = registry.converter(AIDailyFortuneResponse.class);
+        String userText = registry.get(PromptSupplier.daily()).render(params)
+                + System.lineSeparator() + converter.getFormat();
+        return sharedClient.prompt().user(userText);
+    }
+}
@@ -0,0 +1,48 @@
+package dsko.hier.global.redis;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Redis 값 직렬화 + 역직렬화 왕복 비용 비교.
+ * <p>
+ * before: 모든 값을 Jackson2JsonRedisSerializer&lt;Object&gt; 로 처리하던 기존 RedisTemplate <br> after: 카운터는 LongRedisSerializer, 토큰은
+ * StringRedisSerializer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializationBenchmark {
+
+    private final Jackson2JsonRedisSerializer<Object> jsonObject = new Jackson2JsonRedisSerializer<>(Object.class);
+
+    private final Long counter = 1_234_567L;
+    private final String token = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyQGV4YW1wbGUuY29tIiwicm9sZSI6IlVTRVIifQ.signature";
+
+    @Benchmark
+    public Object counterBefore() {
+        return jsonObject.deserialize(jsonObject.serialize(counter));
+    }
+
+    @Benchmark
+    public Object counterAfter() {
+        return LongRedisSerializer.INSTANCE.deserialize(LongRedisSerializer.INSTANCE.serialize(counter));
+    }
+
+    @Benchmark
+    public Object tokenBefore() {
+        return jsonObject.deserialize(jsonObject.serialize(token));
+    }
+
+    @Benchmark
+    public Object tokenAfter() {
+        return StringRedisSerializer.UTF_8.deserialize(StringRedisSerializer.UTF_8.serialize(token));
+    }
+}
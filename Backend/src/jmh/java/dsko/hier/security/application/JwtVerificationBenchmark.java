@@ -0,0 +1,82 @@
+package dsko.hier.security.application;
+
+import dsko.hier.security.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtAuthenticationFilter 가 요청마다 토큰을 검증하고 jti/username 을 꺼내는 비용 비교 (Redis/DB 조회 제외).
+ * <p>
+ * before: validateToken, getJwtIdFromToken, getUsernameFromToken 이 각각 파서를 새로 만들어 서명 검증 (3회) <br> after: 미리 만든 파서로 한 번
+ * 파싱(verifyUncached), 최근 검증한 토큰은 캐시에서 반환(verifyCached)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarksecretkeybenchmarksecretkeybenchmarksecretkey";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider uncached;
+    private JwtTokenProvider cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        uncached = provider(0);
+        cached = provider(10_000);
+        token = uncached.createAccessToken("user@example.com", "USER");
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public Object before() {
+        parseWithNewParser(token); // validateToken
+        String jti = parseWithNewParser(token).getId();
+        String username = parseWithNewParser(token).get("username", String.class);
+        return jti + username;
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        VerifiedClaims claims = uncached.verify(token).orElseThrow();
+        return claims.jwtId() + claims.username();
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        VerifiedClaims claims = cached.verify(token).orElseThrow();
+        return claims.jwtId() + claims.username();
+    }
+
+    private Claims parseWithNewParser(String jwt) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    private static JwtTokenProvider provider(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessExpirationMinutes(60);
+        properties.setVerifiedCacheMaximumSize(cacheSize);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.initSecretKey();
+        return provider;
+    }
+}
@@ -4,12 +4,18 @@ import dsko.hier.admin.application.AdminService;
 import dsko.hier.admin.dto.AdminEmailSignUpDto;
 import dsko.hier.admin.dto.UserDetailInformation;
 import dsko.hier.admin.dto.UserInformation;
+import dsko.hier.fortune.application.analytics.FortuneAnalyticsService;
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.dto.FortuneSeriesResponse;
 import dsko.hier.global.response.APIResponse;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -26,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final AdminService service;
+    private final FortuneAnalyticsService analyticsService;
 
     //관리자 회원 가입
     @PostMapping("/signup")
@@ -75,4 +83,15 @@ public class AdminController {
         service.addFreeFortuneCount(req, count);
         return APIResponse.success();
     }
+
+    // 운영 지표: 운세 타입별 처리량/평균 지연 시간 시계열 (MINUTE 은 최근 보관 구간만 조회 가능)
+    @GetMapping("/fortune-series")
+    public APIResponse<FortuneSeriesResponse> getFortuneSeries(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String type
+    ) {
+        return APIResponse.success(analyticsService.getSeries(granularity, from, to, type));
+    }
 }
@@ -4,6 +4,9 @@ import dsko.hier.admin.UserCRUDRequest;
 import dsko.hier.admin.dto.AdminEmailSignUpDto;
 import dsko.hier.admin.dto.UserDetailInformation;
 import dsko.hier.admin.dto.UserInformation;
+import dsko.hier.fortune.application.StatisticsSnapshotService;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
 import dsko.hier.global.exception.CustomExceptions.UserException;
 import dsko.hier.global.exception.CustomExcpMsgs;
 import dsko.hier.global.redis.RedisTokenService;
@@ -16,6 +19,7 @@ import dsko.hier.security.domain.EmailPasswordAccountRepository;
 import dsko.hier.security.domain.User;
 import dsko.hier.security.domain.UserRepository;
 import dsko.hier.security.domain.UserRole;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,6 +27,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -36,6 +42,8 @@ public class AdminService {
     private final UserPlanService userPlanService;
     private final RedisUserCountService redisUserCountService;
     private final RedisTokenService redisTokenService;
+    private final StatisticsSnapshotService statisticsSnapshotService;
+    private final FortuneResultCache fortuneResultCache;
 
     public void signUpAsAdmin(AdminEmailSignUpDto req) {
         //0. BirthInfo 생성
@@ -72,6 +80,7 @@ public class AdminService {
         log.info("레디스에 사용자 수 1 증가 시도");
         redisUserCountService.increment();
         log.info("레디스에 사용자 수 1 증가 시도 완료");
+        statisticsSnapshotService.publishInvalidation();
     }
 
     private String encodePassword(String password) {
@@ -117,8 +126,14 @@ public class AdminService {
                 .orElseThrow(
                         () -> new UserException(CustomExcpMsgs.USER_NOT_FOUND.getMessage())
                 );
+        // 함께 삭제되는 결과 목록은 삭제 전에 읽어 둠
+        List<FortuneResultIndex> results = List.copyOf(user.getResultIndexes());
         redisTokenService.deleteRefreshToken(user.getEmail());
         userRepository.delete(user);
+        userPlanService.evictFreeFortuneCount(user.getEmail());
+        // 커밋 전에 지우면 그 사이의 조회가 DB 에서 다시 캐시를 채울 수 있으므로 커밋 후 삭제
+        afterCommit(() -> results.forEach(
+                result -> fortuneResultCache.evict(result.getResultType(), result.getResultId())));
     }
 
     public void expiredUserTokens(UserCRUDRequest req) {
@@ -134,7 +149,7 @@ public class AdminService {
                 .orElseThrow(
                         () -> new UserException(CustomExcpMsgs.USER_NOT_FOUND.getMessage())
                 );
-        redisTokenService.addTokenToBlacklist(user.getEmail(), 10000000000000L); // 영구 블랙리스트
+        redisTokenService.addUserToBlacklist(user.getEmail()); // 영구 블랙리스트
     }
 
     public void addFreeFortuneCount(UserCRUDRequest req, int count) {
@@ -144,4 +159,22 @@ public class AdminService {
                 );
         userPlanService.addFreeFortuneCount(user.getEmail(), count);
     }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.warn("삭제된 사용자의 결과 캐시 정리 실패", e);
+                }
+            }
+        });
+    }
 }
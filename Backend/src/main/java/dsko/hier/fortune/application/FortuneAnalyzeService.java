@@ -18,17 +18,21 @@ import dsko.hier.fortune.dto.DreamResponse;
 import dsko.hier.fortune.dto.FaceAnalyzeRequest;
 import dsko.hier.fortune.dto.FaceAnalyzeResponse;
 import dsko.hier.fortune.dto.TotalFortuneResponse;
-import java.time.LocalDateTime;
+import dsko.hier.global.redis.SingleFlightService;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 운세 생성 메서드는 트랜잭션 없이 실행됩니다. 횟수 예약/환불과 결과 저장은 각각 짧은 트랜잭션으로 처리되고, AI 호출 동안에는 DB 커넥션을 잡지 않습니다.
+ */
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class FortuneAnalyzeService {
 
@@ -44,6 +48,8 @@ public class FortuneAnalyzeService {
     private final DreamInterpreationStrategy dreamInterpreationStrategy;
     private final TotalStrategy totalStrategy;
 
+    private final SingleFlightService singleFlightService;
+
     public FaceAnalyzeResponse getFaceAnalyzeResultOfUser(String userEmail, FaceAnalyzeRequest request) {
         return fortuneContext.getFortune(userEmail, faceStrategy, request);
     }
@@ -52,41 +58,84 @@ public class FortuneAnalyzeService {
         return fortuneContext.getFortune(useremail, dreamInterpreationStrategy, req);
     }
 
+    /*
+     * 오늘의 운세/평생 운세는 중복 요청을 하나의 생성 작업으로 합칩니다.
+     * 기다리는 요청이 다른 요청의 커밋 결과를 다시 조회할 수 있도록 트랜잭션 밖에서 조회합니다.
+     */
     public DailyFortuneResponse getDailyFortuneOfUser(String userEmail) {
-        Optional<DailyFortune> findResult = dailyFortuneRepository.findByFortuneDateAndUserEmail(
-                userEmail,
-                LocalDateTime.now()
-        );
-
+        Optional<DailyFortuneResponse> findResult = findTodayDailyFortune(userEmail);
         if (findResult.isPresent()) {
             log.info("DB에서 오늘의 운세를 찾았습니다.");
-            return DailyFortuneResponse.fromEntity(findResult.get());
+            return findResult.get();
         }
 
+        // 사전 생성 대상이 아니었던 사용자(신규/비활성)만 이 경로로 AI 를 호출합니다.
         log.info("DB에서 오늘의 운세를 찾을 수 없어 AI 모델을 호출합니다.");
-        return fortuneContext.getFortune(userEmail, dailyFortuneStrategy, null);
+        try {
+            return singleFlightService.execute(
+                    "daily:" + userEmail + ":" + LocalDate.now(),
+                    () -> findTodayDailyFortune(userEmail),
+                    () -> fortuneContext.getFortune(userEmail, dailyFortuneStrategy, null)
+            );
+        } catch (DataIntegrityViolationException e) {
+            // (user_id, fortune_date) 유니크 제약: 다른 요청이 먼저 저장함 (차감한 횟수는 FortuneContext 에서 환불됨)
+            log.info("사용자 {}의 오늘의 운세가 동시에 저장되어 기존 결과를 반환합니다.", userEmail);
+            return findTodayDailyFortune(userEmail).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<DailyFortuneResponse> findTodayDailyFortune(String userEmail) {
+        Optional<DailyFortune> findResult = dailyFortuneRepository.findByFortuneDateAndUserEmail(
+                userEmail,
+                LocalDate.now()
+        );
+
+        findResult.filter(DailyFortune::isPrecomputed)
+                .filter(dailyFortune -> dailyFortuneRepository.claimPrecomputed(dailyFortune))
+                .ifPresent(dailyFortune -> chargeForPrecomputed(userEmail, dailyFortune));
+
+        return findResult.map(DailyFortuneResponse::fromEntity);
     }
 
+    private void chargeForPrecomputed(String userEmail, DailyFortune dailyFortune) {
+        try {
+            fortuneContext.chargeForPrecomputed(userEmail, dailyFortuneStrategy);
+        } catch (RuntimeException e) {
+            dailyFortuneRepository.restorePrecomputed(dailyFortune);
+            throw e;
+        }
+    }
 
     public TotalFortuneResponse getTotalFortuneOfUser(String userEmail) {
 
-        Optional<TotalFortune> byUserEmail = totalFortuneRepository.findByUserEmail(userEmail);
+        Optional<TotalFortuneResponse> byUserEmail = findTotalFortune(userEmail);
         if (byUserEmail.isPresent()) {
             log.info("사용자 {}의 이전 운세 기록이 존재하여, 기존 기록 반환", userEmail);
-            return TotalFortuneResponse.fromEntity(byUserEmail.get());
+            return byUserEmail.get();
         }
 
         log.info("사용자 {}의 이전 평생 운세 기록이 존재하지 않아, 새로운 운세 기록 생성 시작", userEmail);
 
-        return fortuneContext.getFortune(userEmail, totalStrategy, null);
+        return singleFlightService.execute(
+                "lifelong:" + userEmail,
+                () -> findTotalFortune(userEmail),
+                () -> fortuneContext.getFortune(userEmail, totalStrategy, null)
+        );
+    }
+
+    private Optional<TotalFortuneResponse> findTotalFortune(String userEmail) {
+        return totalFortuneRepository.findByUserEmail(userEmail)
+                .map(TotalFortuneResponse::fromEntity);
     }
 
+    @Transactional(readOnly = true)
     public FaceAnalyzeResponse getFaceResultById(UUID resultId) {
         Face face = faceRepository.findById(resultId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 얼굴 분석 결과가 존재하지 않습니다."));
         return FaceAnalyzeResponse.fromEntity(face);
     }
 
+    @Transactional(readOnly = true)
     public DreamResponse getDreamResultById(UUID resultId) {
         DreamAnalysis dreamAnalysis = dreamRepository.findById(resultId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 꿈 해몽 결과가 존재하지 않습니다."));
@@ -94,12 +143,14 @@ public class FortuneAnalyzeService {
         return DreamResponse.fromEntity(dreamAnalysis);
     }
 
+    @Transactional(readOnly = true)
     public DailyFortuneResponse getDailyResultById(UUID resultId) {
         DailyFortune dailyFortune = dailyFortuneRepository.findById(resultId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 오늘의 운세 결과가 존재하지 않습니다."));
         return DailyFortuneResponse.fromEntity(dailyFortune);
     }
 
+    @Transactional(readOnly = true)
     public TotalFortuneResponse getTotalResultById(UUID resultId) {
         TotalFortune totalFortune = totalFortuneRepository.findById(resultId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 평생 운세 결과가 존재하지 않습니다."));
@@ -0,0 +1,161 @@
+package dsko.hier.fortune.application;
+
+import dsko.hier.fortune.dto.Statistics;
+import dsko.hier.global.config.StatisticsProperties;
+import dsko.hier.global.redis.RedisHashService;
+import dsko.hier.global.redis.RedisUserCountService;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 랜딩 페이지 통계 스냅샷.
+ * <p>
+ * 운세 타입별 카운터(HGETALL)와 사용자 수(GET)를 한 번의 파이프라인으로 읽어 불변 {@link Statistics} 로 보관하고, 요청은 이 스냅샷만 반환합니다. 스냅샷은 주기적으로
+ * 갱신되며, push-invalidation 이 켜져 있으면 다른 서버가 발행한 갱신 요청도 즉시 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsSnapshotService {
+
+    public static final String INVALIDATION_CHANNEL = "fortune:statistics:invalidate";
+
+    private static final Statistics EMPTY = new Statistics(0, 0, 0, 0, 0);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisUserCountService redisUserCountService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final StatisticsProperties properties;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isPushInvalidation()) {
+            listenerContainer.addMessageListener((message, pattern) -> refresh(),
+                    new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    public Statistics getStatistics() {
+        Snapshot current = snapshot;
+        if (current == null || isStale(current)) {
+            // 다른 스레드가 이미 갱신 중이면 기다리지 않고 지금 가진 스냅샷을 반환 (Redis 장애 시 요청이 줄줄이 타임아웃을 기다리지 않도록)
+            Snapshot refreshed = tryRefresh();
+            if (refreshed != null) {
+                current = refreshed;
+            }
+        }
+        return current != null ? current.statistics() : EMPTY;
+    }
+
+    /**
+     * 모든 서버에 스냅샷 갱신을 요청합니다. push-invalidation 이 꺼져 있으면 다음 주기에 반영되므로 발행하지 않습니다.
+     */
+    public void publishInvalidation() {
+        if (!properties.isPushInvalidation()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, "refresh");
+        } catch (Exception e) {
+            log.warn("통계 갱신 요청 발행 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fortune.statistics.refresh-interval:PT5S}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    Snapshot refresh() {
+        refreshLock.lock();
+        try {
+            return load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot tryRefresh() {
+        if (!refreshLock.tryLock()) {
+            return null;
+        }
+        try {
+            // 락을 기다리는 사이 다른 요청이 이미 갱신했으면 그대로 사용
+            Snapshot current = snapshot;
+            return current != null && !isStale(current) ? current : load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        Snapshot fresh;
+        try {
+            fresh = new Snapshot(readStatistics(), System.currentTimeMillis());
+        } catch (Exception e) {
+            // Redis 장애 시 마지막 통계를 계속 사용하되, 실패한 시각을 기록해 max-staleness 동안은 요청 시점에 다시 시도하지 않음
+            log.warn("통계 스냅샷 갱신 실패", e);
+            Snapshot previous = snapshot;
+            fresh = new Snapshot(previous != null ? previous.statistics() : EMPTY, System.currentTimeMillis());
+        }
+        snapshot = fresh;
+        return fresh;
+    }
+
+    private boolean isStale(Snapshot current) {
+        return current.isOlderThan(properties.getMaxStaleness().toMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Statistics readStatistics() {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hGetAll(RedisHashService.FORTUNE_COUNT_KEY);
+            stringConnection.get(RedisUserCountService.USER_COUNT_PREFIX);
+            return null;
+        });
+
+        Map<String, String> counts = (Map<String, String>) results.get(0);
+        // 사용자 수 키가 아직 없으면 DB 기준으로 한 번 초기화
+        int totalUsers = results.get(1) != null ? toInt(results.get(1)) : redisUserCountService.getValue();
+        return Statistics.builder()
+                .totalUsers(totalUsers)
+                .dailyFortuneResultCount(toInt(counts.get(RedisHashService.DAILY_FORTUNE_TYPE)))
+                .lifeLongResultCount(toInt(counts.get(RedisHashService.LIFE_LONG_FORTUNE_TYPE)))
+                .faceResultCount(toInt(counts.get(RedisHashService.FACE_TYPE)))
+                .dreamInterpretationResultCount(toInt(counts.get(RedisHashService.DREAM_TYPE)))
+                .build();
+    }
+
+    // 카운터는 LongRedisSerializer 와 INCR/HINCRBY 모두 10진수 문자열로 저장하므로 그대로 파싱합니다.
+    private static int toInt(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return (int) Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    record Snapshot(Statistics statistics, long refreshedAt) {
+        boolean isOlderThan(long millis) {
+            return System.currentTimeMillis() - refreshedAt > millis;
+        }
+    }
+}
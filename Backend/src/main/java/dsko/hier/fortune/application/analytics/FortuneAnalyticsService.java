@@ -0,0 +1,69 @@
+package dsko.hier.fortune.application.analytics;
+
+import dsko.hier.fortune.domain.analyticsDomain.FortuneStatRollupRepository;
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import dsko.hier.fortune.dto.FortuneSeriesResponse;
+import dsko.hier.fortune.dto.FortuneSeriesResponse.Point;
+import dsko.hier.global.config.AnalyticsProperties;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 운세 처리량 시계열 조회. 분 단위는 Redis 버킷을, 시간/일 단위는 MySQL 집계를 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FortuneAnalyticsService {
+
+    private final FortuneMinuteBuckets minuteBuckets;
+    private final FortuneStatRollupRepository rollupRepository;
+    private final AnalyticsProperties properties;
+
+    /**
+     * [from, to) 구간의 시계열을 반환합니다. type 이 null 이면 모든 운세 타입을 반환합니다.
+     */
+    public FortuneSeriesResponse getSeries(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                           String type) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        List<Point> points = granularity == RollupGranularity.MINUTE
+                ? minutePoints(from, to)
+                : rollupRepository.findRange(granularity, from, to).stream()
+                        .map(rollup -> Point.of(rollup.getBucketStart(), new StatTotals(rollup.getFortuneType(),
+                                rollup.getRequestCount(), rollup.getLatencySumMs(), rollup.getLatencySamples())))
+                        .toList();
+
+        if (type != null) {
+            points = points.stream().filter(point -> point.fortuneType().equals(type)).toList();
+        }
+        return new FortuneSeriesResponse(granularity, points);
+    }
+
+    private List<Point> minutePoints(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime oldest = LocalDateTime.now().minus(properties.getMinuteRetention());
+        LocalDateTime start = (from.isBefore(oldest) ? oldest : from).truncatedTo(ChronoUnit.MINUTES);
+
+        List<LocalDateTime> minutes = new ArrayList<>();
+        for (LocalDateTime minute = start; minute.isBefore(to); minute = minute.plusMinutes(1)) {
+            if (minutes.size() == properties.getMaxMinutePoints()) {
+                throw new IllegalArgumentException(
+                        "분 단위 조회는 최대 " + properties.getMaxMinutePoints() + "분까지 가능합니다.");
+            }
+            minutes.add(minute);
+        }
+        if (minutes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Point> points = new ArrayList<>();
+        minuteBuckets.read(minutes).forEach((minute, bucket) ->
+                bucket.values().forEach(totals -> points.add(Point.of(minute, totals))));
+        return points;
+    }
+}
@@ -0,0 +1,112 @@
+package dsko.hier.fortune.application.analytics;
+
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import dsko.hier.global.config.AnalyticsProperties;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운세 타입별 분 단위 처리량/지연 시간 버킷.
+ * <p>
+ * 분마다 하나의 해시(fortune:ts:m:yyyyMMddHHmm)에 {type}:count, {type}:latency_sum, {type}:latency_n 필드를 HINCRBY 로 누적하고, 보관 시간이 지나면
+ * Redis 가 키를 만료시킵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FortuneMinuteBuckets {
+
+    private static final String KEY_PREFIX = "fortune:ts:m:";
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final String COUNT = ":count";
+    private static final String LATENCY_SUM = ":latency_sum";
+    private static final String LATENCY_SAMPLES = ":latency_n";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AnalyticsProperties properties;
+
+    /**
+     * 현재 분 버킷에 한 건을 기록합니다. latencyMs 가 null 이면 횟수만 기록합니다. 기록 실패는 운세 응답에 영향을 주지 않습니다.
+     */
+    public void record(String type, Long latencyMs) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                record((StringRedisConnection) connection, type, latencyMs);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("분 단위 통계 기록 실패. type={}", type, e);
+        }
+    }
+
+    /**
+     * 다른 명령과 같은 파이프라인에 기록 명령을 추가합니다.
+     */
+    public void record(StringRedisConnection connection, String type, Long latencyMs) {
+        String key = key(LocalDateTime.now());
+        connection.hIncrBy(key, type + COUNT, 1L);
+        if (latencyMs != null) {
+            connection.hIncrBy(key, type + LATENCY_SUM, latencyMs);
+            connection.hIncrBy(key, type + LATENCY_SAMPLES, 1L);
+        }
+        connection.expire(key, properties.getMinuteRetention().toSeconds());
+    }
+
+    /**
+     * 주어진 분 버킷들을 한 번의 파이프라인으로 읽어, 분 → (타입 → 합계) 로 반환합니다. 비어 있는 분은 빈 맵입니다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<LocalDateTime, Map<String, StatTotals>> read(List<LocalDateTime> minutes) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            minutes.forEach(minute -> stringConnection.hGetAll(key(minute)));
+            return null;
+        });
+
+        Map<LocalDateTime, Map<String, StatTotals>> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < minutes.size(); i++) {
+            buckets.put(minutes.get(i), parse((Map<String, String>) results.get(i)));
+        }
+        return buckets;
+    }
+
+    static Map<String, StatTotals> parse(Map<String, String> fields) {
+        Map<String, long[]> values = new TreeMap<>();
+        if (fields != null) {
+            fields.forEach((field, value) -> {
+                int separator = field.lastIndexOf(':');
+                if (separator <= 0) {
+                    return;
+                }
+                long[] slot = values.computeIfAbsent(field.substring(0, separator), type -> new long[3]);
+                long number = Long.parseLong(value);
+                switch (field.substring(separator)) {
+                    case COUNT -> slot[0] = number;
+                    case LATENCY_SUM -> slot[1] = number;
+                    case LATENCY_SAMPLES -> slot[2] = number;
+                    default -> {
+                    }
+                }
+            });
+        }
+
+        Map<String, StatTotals> totals = new LinkedHashMap<>();
+        values.forEach((type, slot) -> totals.put(type, new StatTotals(type, slot[0], slot[1], slot[2])));
+        return totals;
+    }
+
+    private static String key(LocalDateTime time) {
+        return KEY_PREFIX + time.truncatedTo(ChronoUnit.MINUTES).format(MINUTE_FORMAT);
+    }
+}
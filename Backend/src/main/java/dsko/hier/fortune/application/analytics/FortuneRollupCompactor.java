@@ -0,0 +1,121 @@
+package dsko.hier.fortune.application.analytics;
+
+import dsko.hier.fortune.domain.analyticsDomain.FortuneStatRollupRepository;
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import dsko.hier.global.config.AnalyticsProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 분 단위 버킷을 MySQL 시간/일 단위 집계로 압축합니다.
+ * <p>
+ * 마지막으로 압축한 분(워터마크) 이후에 닫힌 분이 속한 시간 버킷을 분 버킷에서 처음부터 다시 합산해 덮어쓰고, 해당 일 버킷은 시간 버킷 합으로 다시 계산합니다. 같은 구간을 여러 번
+ * 압축해도 결과가 같으므로 중간에 실패해도 다음 실행에서 그대로 복구됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FortuneRollupCompactor {
+
+    private static final String WATERMARK_KEY = "fortune:ts:compacted";
+    private static final String LOCK_KEY = "fortune:ts:compact-lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+    private static final Duration FIRST_RUN_LOOKBACK = Duration.ofHours(2);
+
+    // 내가 잡은 락일 때만 삭제 (TTL 이 지나 다른 인스턴스가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final FortuneMinuteBuckets minuteBuckets;
+    private final FortuneStatRollupRepository rollupRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AnalyticsProperties properties;
+
+    @Scheduled(fixedDelayString = "${fortune.analytics.compact-interval:PT1M}")
+    public void compact() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            compactUntil(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+        } catch (Exception e) {
+            log.error("운세 통계 압축 실패", e);
+        } finally {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * [워터마크, currentMinute) 구간의 닫힌 분 버킷을 압축합니다.
+     */
+    void compactUntil(LocalDateTime currentMinute) {
+        LocalDateTime oldestAvailable = currentMinute.minus(properties.getMinuteRetention());
+        String stored = stringRedisTemplate.opsForValue().get(WATERMARK_KEY);
+        LocalDateTime from = stored != null ? LocalDateTime.parse(stored) : currentMinute.minus(FIRST_RUN_LOOKBACK);
+        if (from.isBefore(oldestAvailable)) {
+            log.warn("압축이 보관 시간보다 오래 지연되어 {} 이전 구간은 집계되지 않습니다.", oldestAvailable);
+            from = oldestAvailable;
+        }
+        if (!from.isBefore(currentMinute)) {
+            return;
+        }
+
+        LocalDateTime lastHour = currentMinute.minusMinutes(1).truncatedTo(ChronoUnit.HOURS);
+        for (LocalDateTime hour = from.truncatedTo(ChronoUnit.HOURS); !hour.isAfter(lastHour); hour = hour.plusHours(1)) {
+            rollupHour(hour, currentMinute);
+        }
+        for (LocalDateTime day = from.truncatedTo(ChronoUnit.DAYS); !day.isAfter(lastHour); day = day.plusDays(1)) {
+            rollupDay(day);
+        }
+
+        stringRedisTemplate.opsForValue().set(WATERMARK_KEY, currentMinute.toString());
+    }
+
+    private void rollupHour(LocalDateTime hour, LocalDateTime currentMinute) {
+        List<LocalDateTime> minutes = new ArrayList<>();
+        for (LocalDateTime minute = hour; minute.isBefore(hour.plusHours(1)) && minute.isBefore(currentMinute);
+             minute = minute.plusMinutes(1)) {
+            minutes.add(minute);
+        }
+
+        Map<String, StatTotals> totals = new LinkedHashMap<>();
+        minuteBuckets.read(minutes).values().forEach(bucket ->
+                bucket.forEach((type, total) -> totals.merge(type, total, StatTotals::plus)));
+        if (!totals.isEmpty()) {
+            rollupRepository.overwrite(RollupGranularity.HOUR, hour, totals.values());
+        }
+    }
+
+    private void rollupDay(LocalDateTime day) {
+        List<StatTotals> totals = rollupRepository.sumHourly(day, day.plusDays(1));
+        if (!totals.isEmpty()) {
+            rollupRepository.overwrite(RollupGranularity.DAY, day, totals);
+        }
+    }
+
+    // 보관 기간이 지난 집계 삭제
+    @Scheduled(cron = "${fortune.analytics.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int hourly = rollupRepository.deleteBefore(RollupGranularity.HOUR, now.minus(properties.getHourlyRetention()));
+        int daily = rollupRepository.deleteBefore(RollupGranularity.DAY, now.minus(properties.getDailyRetention()));
+        log.info("운세 통계 집계 정리: 시간 단위 {}건, 일 단위 {}건 삭제", hourly, daily);
+    }
+}
@@ -0,0 +1,179 @@
+package dsko.hier.fortune.application.batch;
+
+import dsko.hier.fortune.daily.application.DailyFortuneStrategy;
+import dsko.hier.fortune.domain.dailyDomain.DailyFortuneRepository;
+import dsko.hier.global.config.DailyPrecomputeProperties;
+import dsko.hier.security.domain.User;
+import dsko.hier.security.domain.UserRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새벽 시간대에 활성 사용자의 오늘의 운세를 미리 생성하는 배치.
+ * <p>
+ * - 이미 오늘의 운세가 있는 사용자는 건너뛰므로, 중간에 중단되어도 다음 실행에서 남은 사용자만 이어서 처리합니다. <br> - 사용자별 실패 횟수는 Redis 에 날짜별로 기록하고, 한
+ * 사용자의 실패가 다른 사용자 처리에 영향을 주지 않습니다. <br> - 여러 서버가 동시에 실행하지 않도록 Redis 락을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyFortunePrecomputeJob {
+
+    private static final String LOCK_KEY_PREFIX = "fortune:daily-precompute:lock:";
+    private static final String FAILURE_KEY_PREFIX = "fortune:daily-precompute:failures:";
+    // 시간 초과 후 진행 중인 AI 호출이 끝나기를 기다리는 시간
+    private static final Duration SHUTDOWN_GRACE = Duration.ofMinutes(5);
+
+    // 내가 잡은 락일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final DailyFortuneStrategy dailyFortuneStrategy;
+    private final DailyFortuneRepository dailyFortuneRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DailyPrecomputeProperties properties;
+
+    // 기본값: 04시에 실행하고, 05시에 남은 사용자를 이어서 처리
+    @Scheduled(cron = "${fortune.daily-precompute.cron:0 0 4,5 * * *}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        precomputeToday();
+    }
+
+    public void precomputeToday() {
+        LocalDate today = LocalDate.now();
+        String lockKey = LOCK_KEY_PREFIX + today;
+        Duration maxDuration = Duration.ofMinutes(properties.getMaxDurationMinutes());
+
+        // 작업 제한 시간 + 종료 대기 시간보다 길게 잡아, 작업이 끝나기 전에 락이 만료되지 않도록 함
+        Duration lockTtl = maxDuration.plus(SHUTDOWN_GRACE.multipliedBy(2));
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 서버에서 오늘의 운세 사전 생성이 진행 중입니다.");
+            return;
+        }
+
+        boolean finished = true;
+        try {
+            Set<String> targets = findTargets(today);
+            log.info("오늘의 운세 사전 생성 시작: 대상 {}명", targets.size());
+            finished = process(today, targets, maxDuration);
+        } finally {
+            // 아직 끝나지 않은 작업이 있으면 락을 TTL 까지 유지해 다음 실행과 겹치지 않게 함
+            if (finished) {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+            }
+        }
+    }
+
+    // 최근 활성 사용자 중 오늘의 운세가 아직 없고, 오늘 실패 한도를 넘지 않은 사용자
+    private Set<String> findTargets(LocalDate today) {
+        Set<String> targets = new LinkedHashSet<>(
+                dailyFortuneRepository.findUserEmailsWithFortuneSince(today.minusDays(properties.getActiveDays())));
+        targets.removeAll(dailyFortuneRepository.findUserEmailsWithFortuneSince(today));
+
+        Map<Object, Object> failures = stringRedisTemplate.opsForHash().entries(FAILURE_KEY_PREFIX + today);
+        failures.forEach((email, count) -> {
+            if (Integer.parseInt(count.toString()) >= properties.getMaxAttempts()) {
+                targets.remove(email.toString());
+            }
+        });
+        return targets;
+    }
+
+    // 모든 작업이 끝났으면 true
+    private boolean process(LocalDate today, Set<String> targets, Duration maxDuration) {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency(),
+                new CustomizableThreadFactory("fortune-precompute-"));
+
+        List<String> emails = new ArrayList<>(targets);
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < emails.size(); from += batchSize) {
+            List<String> chunk = emails.subList(from, Math.min(from + batchSize, emails.size()));
+            executor.execute(() -> precomputeChunk(today, chunk, succeeded, failed));
+        }
+        executor.shutdown();
+
+        boolean finished = true;
+        try {
+            if (!executor.awaitTermination(maxDuration.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("오늘의 운세 사전 생성 시간 초과, 남은 사용자는 다음 실행에서 처리합니다.");
+                executor.shutdownNow();
+                finished = executor.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            finished = false;
+            Thread.currentThread().interrupt();
+        }
+        log.info("오늘의 운세 사전 생성 종료: 성공 {}명, 실패 {}명", succeeded.get(), failed.get());
+        return finished;
+    }
+
+    // 여러 사용자를 한 번의 AI 요청으로 생성하고, 응답에서 빠졌거나 저장하지 못했거나 묶음 요청이 실패한 사용자만 개별 생성으로 처리
+    private void precomputeChunk(LocalDate today, List<String> emails, AtomicInteger succeeded, AtomicInteger failed) {
+        List<String> remaining = new ArrayList<>(emails);
+        if (emails.size() > 1) {
+            try {
+                List<User> users = emails.stream()
+                        .map(userRepository::findByEmail)
+                        .flatMap(Optional::stream)
+                        .toList();
+                Set<User> generated = dailyFortuneStrategy.executeBatch(users);
+                generated.forEach(user -> remaining.remove(user.getEmail()));
+                succeeded.addAndGet(generated.size());
+            } catch (RuntimeException e) {
+                log.warn("오늘의 운세 묶음 생성 실패, 개별 생성으로 전환합니다: {}", e.getMessage());
+            }
+        }
+
+        for (String email : remaining) {
+            if (precompute(today, email)) {
+                succeeded.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean precompute(LocalDate today, String email) {
+        try {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 이메일의 사용자가 존재하지 않습니다: " + email));
+            dailyFortuneStrategy.precompute(user);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("사용자 {}의 오늘의 운세 사전 생성 실패: {}", email, e.getMessage());
+            String failureKey = FAILURE_KEY_PREFIX + today;
+            stringRedisTemplate.opsForHash().increment(failureKey, email, 1);
+            stringRedisTemplate.expire(failureKey, Duration.ofDays(2));
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dsko.hier.fortune.application.job;
+
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 비동기 운세 생성 작업 한 건의 상태. 상태 변경과 SSE 구독자 관리는 모두 동기화되어 있습니다.
+ */
+@Getter
+public class FortuneJob {
+
+    private final UUID id;
+    private final String userEmail;
+    private final ResultType resultType;
+    private final LocalDateTime createdAt;
+
+    private FortuneJobStatus status;
+    private UUID resultId;
+    private String errorMessage;
+    private LocalDateTime finishedAt;
+
+    private final List<SseEmitter> emitters = new ArrayList<>();
+
+    public FortuneJob(String userEmail, ResultType resultType) {
+        this.id = UUID.randomUUID();
+        this.userEmail = userEmail;
+        this.resultType = resultType;
+        this.createdAt = LocalDateTime.now();
+        this.status = FortuneJobStatus.PENDING;
+    }
+
+    public synchronized void start() {
+        this.status = FortuneJobStatus.RUNNING;
+    }
+
+    /**
+     * 작업을 완료 상태로 바꾸고, 대기 중이던 SSE 구독자 목록을 넘겨줍니다.
+     */
+    public synchronized List<SseEmitter> complete(UUID resultId) {
+        this.status = FortuneJobStatus.COMPLETED;
+        this.resultId = resultId;
+        return finish();
+    }
+
+    public synchronized List<SseEmitter> fail(String errorMessage) {
+        this.status = FortuneJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        return finish();
+    }
+
+    /**
+     * 아직 끝나지 않은 작업이면 구독자를 등록하고 true 를, 이미 끝났으면 false 를 반환합니다.
+     */
+    public synchronized boolean subscribe(SseEmitter emitter) {
+        if (status.isFinished()) {
+            return false;
+        }
+        emitters.add(emitter);
+        return true;
+    }
+
+    public synchronized void unsubscribe(SseEmitter emitter) {
+        emitters.remove(emitter);
+    }
+
+    public synchronized FortuneJobStatus getStatus() {
+        return status;
+    }
+
+    public synchronized boolean isExpired(LocalDateTime threshold) {
+        return status.isFinished() && finishedAt.isBefore(threshold);
+    }
+
+    public boolean isOwnedBy(String email) {
+        return userEmail.equals(email);
+    }
+
+    private List<SseEmitter> finish() {
+        this.finishedAt = LocalDateTime.now();
+        List<SseEmitter> subscribers = new ArrayList<>(emitters);
+        emitters.clear();
+        return subscribers;
+    }
+}
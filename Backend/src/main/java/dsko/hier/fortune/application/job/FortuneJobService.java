@@ -0,0 +1,145 @@
+package dsko.hier.fortune.application.job;
+
+import dsko.hier.fortune.application.FortuneAnalyzeService;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import dsko.hier.fortune.dto.DreamRequestDto;
+import dsko.hier.fortune.dto.FaceAnalyzeRequest;
+import dsko.hier.fortune.dto.FortuneJobResponse;
+import dsko.hier.global.config.FortuneJobProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 운세 생성 요청을 작업(Job) 단위로 받아 전용 실행기에서 비동기로 처리합니다. 요청 스레드는 작업 ID만 받아 즉시 반환되고, 결과는 폴링 또는 SSE 로 전달됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FortuneJobService {
+
+    private static final String STATUS_EVENT = "status";
+
+    private final FortuneAnalyzeService fortuneAnalyzeService;
+    private final AsyncTaskExecutor fortuneTaskExecutor;
+    private final FortuneJobProperties properties;
+
+    private final Map<UUID, FortuneJob> jobs = new ConcurrentHashMap<>();
+
+    public FortuneJobResponse submitFaceAnalyze(String userEmail, FaceAnalyzeRequest request) {
+        return submit(userEmail, ResultType.FACE,
+                () -> fortuneAnalyzeService.getFaceAnalyzeResultOfUser(userEmail, request).id());
+    }
+
+    public FortuneJobResponse submitDreamInterpretation(String userEmail, DreamRequestDto request) {
+        return submit(userEmail, ResultType.DREAM,
+                () -> fortuneAnalyzeService.getDreamInterpretationOfUser(userEmail, request).id());
+    }
+
+    public FortuneJobResponse submitDailyFortune(String userEmail) {
+        return submit(userEmail, ResultType.DAILY_FORTUNE,
+                () -> fortuneAnalyzeService.getDailyFortuneOfUser(userEmail).id());
+    }
+
+    public FortuneJobResponse submitTotalFortune(String userEmail) {
+        return submit(userEmail, ResultType.LIFE_LONG,
+                () -> fortuneAnalyzeService.getTotalFortuneOfUser(userEmail).id());
+    }
+
+    public FortuneJobResponse getJob(UUID jobId, String userEmail) {
+        return FortuneJobResponse.from(findOwnedJob(jobId, userEmail));
+    }
+
+    /**
+     * 작업 상태를 SSE 로 구독합니다. 이미 끝난 작업이면 현재 상태를 한 번 보내고 바로 연결을 종료합니다.
+     */
+    public SseEmitter subscribe(UUID jobId, String userEmail) {
+        FortuneJob job = findOwnedJob(jobId, userEmail);
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeoutSeconds() * 1000);
+
+        emitter.onCompletion(() -> job.unsubscribe(emitter));
+        emitter.onTimeout(() -> job.unsubscribe(emitter));
+        emitter.onError(e -> job.unsubscribe(emitter));
+
+        FortuneJobResponse current = FortuneJobResponse.from(job);
+        send(emitter, current);
+        if (!job.subscribe(emitter)) {
+            // 구독 직전에 작업이 끝났을 수 있으므로 최종 상태를 다시 보냄
+            send(emitter, FortuneJobResponse.from(job));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private FortuneJobResponse submit(String userEmail, ResultType resultType, Supplier<UUID> generation) {
+        FortuneJob job = new FortuneJob(userEmail, resultType);
+        jobs.put(job.getId(), job);
+
+        try {
+            fortuneTaskExecutor.execute(() -> run(job, generation));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            log.warn("운세 생성 작업 큐가 가득 차 요청을 거절합니다. user={}, type={}", userEmail, resultType);
+            throw new TooManyRequestsException("운세 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("운세 생성 작업 등록: jobId={}, user={}, type={}", job.getId(), userEmail, resultType);
+        return FortuneJobResponse.from(job);
+    }
+
+    private void run(FortuneJob job, Supplier<UUID> generation) {
+        job.start();
+        List<SseEmitter> subscribers;
+        try {
+            UUID resultId = generation.get();
+            subscribers = job.complete(resultId);
+            log.info("운세 생성 작업 완료: jobId={}, resultId={}", job.getId(), resultId);
+        } catch (RuntimeException e) {
+            subscribers = job.fail(e.getMessage());
+            log.warn("운세 생성 작업 실패: jobId={}, reason={}", job.getId(), e.getMessage());
+        }
+
+        FortuneJobResponse finished = FortuneJobResponse.from(job);
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, finished);
+            emitter.complete();
+        }
+    }
+
+    private void send(SseEmitter emitter, FortuneJobResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(STATUS_EVENT).data(response));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패(클라이언트 연결 종료): {}", e.getMessage());
+        }
+    }
+
+    private FortuneJob findOwnedJob(UUID jobId, String userEmail) {
+        FortuneJob job = jobs.get(jobId);
+        if (job == null || !job.isOwnedBy(userEmail)) {
+            throw new IllegalArgumentException("해당 ID의 운세 생성 작업이 존재하지 않습니다.");
+        }
+        return job;
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "PT1M")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(properties.getResultRetentionMinutes());
+        jobs.values().removeIf(job -> job.isExpired(threshold));
+    }
+}
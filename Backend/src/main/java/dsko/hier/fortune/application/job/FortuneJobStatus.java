@@ -0,0 +1,12 @@
+package dsko.hier.fortune.application.job;
+
+public enum FortuneJobStatus {
+    PENDING,   // 실행 대기
+    RUNNING,   // AI 생성 중
+    COMPLETED, // 생성 완료 (resultId 로 결과 조회 가능)
+    FAILED;    // 생성 실패
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
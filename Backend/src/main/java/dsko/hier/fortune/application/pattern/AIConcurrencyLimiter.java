@@ -0,0 +1,169 @@
+package dsko.hier.fortune.application.pattern;
+
+import dsko.hier.global.config.AILimiterProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenAI 호출 앞단의 동시 실행 제한기.
+ * <p>
+ * - 운세 타입별 bulkhead: 한 타입이 몰려도 다른 타입의 자리를 모두 차지하지 못하게 합니다. <br> - 전체 한도는 AIMD 방식으로 조정합니다. 타입별 목표 지연 안에 성공하면 조금씩
+ * 늘리고, 느리거나 실패하면 비율만큼 줄입니다. <br> - 스트리밍·묶음 호출은 응답 시간이 출력 길이에 비례하므로 자리만 차지하고 한도 조정에는 반영하지 않습니다. <br> - 자리가 없으면 잠시 대기하고, 대기열이 가득 찼거나 대기 시간이 지나면 Retry-After 힌트와 함께 429 로 실패합니다.
+ */
+@Slf4j
+@Component
+public class AIConcurrencyLimiter {
+
+    private static final String METRIC_PREFIX = "fortune.ai.limiter.";
+
+    private final AILimiterProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<String, AtomicInteger> inFlightByType = new ConcurrentHashMap<>();
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private double averageLatencyMillis;
+
+    public AIConcurrencyLimiter(AILimiterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.limit = properties.getInitialLimit();
+        this.averageLatencyMillis = properties.getTargetLatency().toMillis() / 2.0;
+
+        Gauge.builder(METRIC_PREFIX + "limit", this, AIConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "inflight", this, AIConcurrencyLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queued", this, AIConcurrencyLimiter::getQueued).register(meterRegistry);
+    }
+
+    public <T> T execute(String type, Supplier<T> call) {
+        return execute(type, call, true);
+    }
+
+    /**
+     * 스트리밍·묶음 호출처럼 오래 걸리는 것이 정상인 호출용. 동시 실행 자리는 똑같이 차지하지만, 지연과 성공 여부로 전체 한도를 조정하지 않습니다.
+     */
+    public <T> T executeLongRunning(String type, Supplier<T> call) {
+        return execute(type, call, false);
+    }
+
+    private <T> T execute(String type, Supplier<T> call, boolean adjustLimit) {
+        acquire(type);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            release(type, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), success, adjustLimit);
+        }
+    }
+
+    private void acquire(String type) {
+        lock.lock();
+        try {
+            if (!canRun(type)) {
+                if (queued >= properties.getMaxQueue()) {
+                    throw reject(type, "queue_full");
+                }
+                queued++;
+                try {
+                    long remaining = properties.getMaxWait().toNanos();
+                    while (!canRun(type)) {
+                        if (remaining <= 0) {
+                            throw reject(type, "timeout");
+                        }
+                        remaining = released.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw reject(type, "interrupted");
+                } finally {
+                    queued--;
+                }
+            }
+            inFlight++;
+            typeCounter(type).incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(String type, long latencyMillis, boolean success, boolean adjustLimit) {
+        lock.lock();
+        try {
+            inFlight--;
+            typeCounter(type).decrementAndGet();
+
+            if (adjustLimit) {
+                averageLatencyMillis = averageLatencyMillis * 0.8 + latencyMillis * 0.2;
+                if (!success || latencyMillis > targetLatency(type).toMillis()) {
+                    limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+                } else {
+                    // 한도만큼 성공하면 한도가 1 늘어나도록 조금씩 증가
+                    limit = Math.min(properties.getMaxLimit(), limit + 1.0 / limit);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Duration targetLatency(String type) {
+        return properties.getTargetLatencyByType().getOrDefault(type, properties.getTargetLatency());
+    }
+
+    private boolean canRun(String type) {
+        Integer bulkhead = properties.getBulkhead().get(type);
+        if (bulkhead != null && typeCounter(type).get() >= bulkhead) {
+            return false;
+        }
+        return inFlight < (int) limit;
+    }
+
+    private TooManyRequestsException reject(String type, String reason) {
+        meterRegistry.counter(METRIC_PREFIX + "rejected", "type", type, "reason", reason).increment();
+        log.warn("AI 호출 제한으로 요청 거절: type={}, reason={}, limit={}, inFlight={}", type, reason, (int) limit, inFlight);
+        // 평균 AI 응답 시간 후에는 자리가 날 가능성이 높으므로 이를 재시도 힌트로 사용
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(averageLatencyMillis / 1000));
+        return new TooManyRequestsException("AI 요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    private AtomicInteger typeCounter(String type) {
+        return inFlightByType.computeIfAbsent(type, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder(METRIC_PREFIX + "inflight.type", counter, AtomicInteger::get)
+                    .tag("type", key)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+}
@@ -0,0 +1,165 @@
+package dsko.hier.fortune.application.pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dsko.hier.global.config.AIResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 프롬프트 입력(템플릿 + 파라미터)에 대한 AI 응답 캐시.
+ * <p>
+ * 이름은 결과에만 영향을 주므로 키에서 제외하고, 자리표시자로 AI 를 호출한 뒤 응답을 돌려줄 때 실제 이름으로 바꿉니다. 로컬(Caffeine) → Redis 순으로 조회하며, 두 곳 모두
+ * 없을 때만 AI 를 호출합니다.
+ */
+@Slf4j
+@Component
+public class AIResponseCache {
+
+    public static final String NAME_PARAM = "name";
+    static final String NAME_PLACEHOLDER = "@@USER_NAME@@";
+
+    private static final String REDIS_KEY_PREFIX = "fortune:ai-cache:";
+    private static final String METRIC_NAME = "fortune.ai.cache";
+
+    private final AIResponseCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, CachedResponse> localCache;
+
+    public AIResponseCache(AIResponseCacheProperties properties, StringRedisTemplate stringRedisTemplate,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfter(Expiry.writing((String key, CachedResponse value) -> value.ttl()))
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled(String type) {
+        Duration ttl = properties.getTtl(type);
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * 캐시된 응답을 반환하거나, 없으면 generator 로 생성해 저장합니다. generator 에는 이름이 자리표시자로 바뀐 파라미터가 전달됩니다.
+     *
+     * @param type  운세 타입 (TTL, 메트릭 구분)
+     * @param scope 키에 추가로 포함할 값 (예: 오늘의 운세의 날짜)
+     */
+    public <T> T getOrGenerate(String type, String scope, String promptContent, Map<String, Object> params,
+                               Class<T> responseClass, Function<Map<String, Object>, T> generator) {
+        String key = REDIS_KEY_PREFIX + type + ":" + hash(scope, promptContent, params);
+        Object name = params.get(NAME_PARAM);
+
+        CachedResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            record(type, "local_hit");
+            return personalize(local.json(), name, responseClass);
+        }
+
+        String shared = readShared(key);
+        if (shared != null) {
+            record(type, "redis_hit");
+            localCache.put(key, new CachedResponse(shared, localTtl(type)));
+            return personalize(shared, name, responseClass);
+        }
+
+        record(type, "miss");
+        Map<String, Object> anonymousParams = new HashMap<>(params);
+        if (name != null) {
+            anonymousParams.put(NAME_PARAM, NAME_PLACEHOLDER);
+        }
+        String json = toJson(generator.apply(anonymousParams));
+        localCache.put(key, new CachedResponse(json, localTtl(type)));
+        try {
+            stringRedisTemplate.opsForValue().set(key, json, properties.getTtl(type));
+        } catch (Exception e) {
+            // 이미 비용을 지불한 AI 응답이므로 캐시 저장 실패로 버리지 않음
+            log.warn("AI 응답 캐시 Redis 저장 실패. key={}", key, e);
+        }
+        return personalize(json, name, responseClass);
+    }
+
+    // Redis 장애 시 캐시 없이 AI 를 호출하도록 없는 것으로 처리
+    private String readShared(String key) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 조회 실패, AI 를 호출합니다. key={}", key, e);
+            return null;
+        }
+    }
+
+    // 템플릿 + 이름을 제외한 파라미터를 키 순서대로 정규화해 해시
+    static String hash(String scope, String promptContent, Map<String, Object> params) {
+        StringBuilder source = new StringBuilder()
+                .append(scope).append('\n')
+                .append(promptContent.strip()).append('\n');
+        new TreeMap<>(params).forEach((key, value) -> {
+            if (!NAME_PARAM.equals(key)) {
+                source.append(key).append('=').append(String.valueOf(value).strip()).append('\n');
+            }
+        });
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T personalize(String json, Object name, Class<T> responseClass) {
+        try {
+            String personalized = json;
+            if (name != null) {
+                // JSON 문자열 안에 들어가므로 이스케이프된 형태로 치환
+                String escapedName = objectMapper.writeValueAsString(name.toString());
+                personalized = json.replace(NAME_PLACEHOLDER, escapedName.substring(1, escapedName.length() - 1));
+            }
+            return objectMapper.readValue(personalized, responseClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시된 AI 응답을 변환할 수 없습니다.", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 응답을 캐시할 수 없습니다.", e);
+        }
+    }
+
+    private Duration localTtl(String type) {
+        Duration ttl = properties.getTtl(type);
+        return ttl.compareTo(properties.getLocalMaxTtl()) < 0 ? ttl : properties.getLocalMaxTtl();
+    }
+
+    private void record(String type, String result) {
+        meterRegistry.counter(METRIC_NAME, "type", type, "result", result).increment();
+    }
+
+    private record CachedResponse(String json, Duration ttl) {
+    }
+}
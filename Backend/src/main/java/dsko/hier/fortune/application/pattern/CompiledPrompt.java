@@ -0,0 +1,67 @@
+package dsko.hier.fortune.application.pattern;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 파싱해 둔 불변 프롬프트 템플릿. {변수} 자리표시자를 기준으로 고정 문자열과 변수 구간을 한 번만 나눠 두고, 호출마다 이어 붙이기만 합니다.
+ */
+public final class CompiledPrompt {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z_][A-Za-z0-9_]*)}");
+
+    private final String source;
+    private final List<String> literals;
+    private final List<String> variables;
+    private final Set<String> variableNames;
+    private final int estimatedLength;
+
+    private CompiledPrompt(String source, List<String> literals, List<String> variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        this.variableNames = Collections.unmodifiableSet(new LinkedHashSet<>(variables));
+        this.estimatedLength = source.length() + variables.size() * 16;
+    }
+
+    public static CompiledPrompt compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(last, matcher.start()));
+            variables.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(source.substring(last));
+        return new CompiledPrompt(source, List.copyOf(literals), List.copyOf(variables));
+    }
+
+    public String render(Map<String, Object> params) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        for (int i = 0; i < variables.size(); i++) {
+            sb.append(literals.get(i));
+            Object value = params.get(variables.get(i));
+            if (value == null) {
+                throw new IllegalArgumentException("프롬프트 변수 값이 없습니다: " + variables.get(i));
+            }
+            sb.append(value);
+        }
+        return sb.append(literals.get(variables.size())).toString();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Set<String> getVariableNames() {
+        return variableNames;
+    }
+}
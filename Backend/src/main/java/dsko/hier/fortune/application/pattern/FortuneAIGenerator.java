@@ -1,10 +1,13 @@
 package dsko.hier.fortune.application.pattern;
 
+import dsko.hier.fortune.dto.ai.AIBatchFortuneResponse;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.model.ChatModel;
-import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Component;
 
 /**
@@ -15,15 +18,118 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FortuneAIGenerator {
 
-    private final ChatModel chatmodel;
+    private final ChatClient fortuneChatClient;
+    private final PromptTemplateRegistry promptTemplateRegistry;
+    private final AIResponseCache aiResponseCache;
+    private final AIConcurrencyLimiter aiConcurrencyLimiter;
 
-    public <T> T callAI(String promptContent, Map<String, Object> params, Class<T> responseClass) {
-        PromptTemplate promptTemplate = new PromptTemplate(promptContent);
+    /**
+     * @param type 운세 타입. 타입별 동시 호출 제한(bulkhead)에 사용합니다.
+     */
+    public <T> T callAI(String type, String promptContent, Map<String, Object> params, Class<T> responseClass) {
+        BeanOutputConverter<T> converter = promptTemplateRegistry.converter(responseClass);
+        String userText = render(promptContent, params, converter);
 
-        return ChatClient.create(chatmodel)
+        String content = aiConcurrencyLimiter.execute(type, () -> fortuneChatClient
                 .prompt()
-                .user(promptTemplate.create(params).getContents())
+                .user(userText)
                 .call()
-                .entity(responseClass);
+                .content());
+
+        return converter.convert(content);
+    }
+
+    /**
+     * 같은 입력의 응답을 재사용하는 callAI. 해당 타입의 캐시 TTL 이 설정되지 않았으면 바로 AI 를 호출합니다.
+     */
+    public <T> T callAICached(String type, String scope, String promptContent, Map<String, Object> params,
+                              Class<T> responseClass) {
+        if (!aiResponseCache.isEnabled(type)) {
+            return callAI(type, promptContent, params, responseClass);
+        }
+        return aiResponseCache.getOrGenerate(type, scope, promptContent, params, responseClass,
+                anonymousParams -> callAI(type, promptContent, anonymousParams, responseClass));
+    }
+
+    /**
+     * 스트리밍 API로 AI를 호출합니다. 생성되는 토큰 조각을 onChunk 로 흘려보내고, 스트림이 끝나면 전체 응답을 responseClass 로 변환해 반환합니다.
+     */
+    public <T> T streamAI(String type, String promptContent, Map<String, Object> params, Class<T> responseClass,
+                          Consumer<String> onChunk) {
+        BeanOutputConverter<T> converter = promptTemplateRegistry.converter(responseClass);
+        String userText = render(promptContent, params, converter);
+        StringBuilder fullResponse = new StringBuilder();
+
+        aiConcurrencyLimiter.executeLongRunning(type, () -> fortuneChatClient
+                .prompt()
+                .user(userText)
+                .stream()
+                .content()
+                .doOnNext(chunk -> {
+                    fullResponse.append(chunk);
+                    onChunk.accept(chunk);
+                })
+                .blockLast());
+
+        return converter.convert(fullResponse.toString());
+    }
+
+    /**
+     * 여러 대상의 프롬프트 파라미터를 한 번의 요청으로 보내고, 응답을 대상 key 별로 나눠 반환합니다. 응답에서 빠지거나 요청하지 않은 key 는 결과에 포함되지 않습니다.
+     *
+     * @param paramsByKey 대상 key 별 프롬프트 파라미터
+     */
+    public <T> Map<String, T> callAIBatch(String type, String promptContent,
+                                          Map<String, Map<String, Object>> paramsByKey, Class<T> responseClass) {
+        BeanOutputConverter<AIBatchFortuneResponse<T>> converter = promptTemplateRegistry.batchConverter(responseClass);
+        String userText = renderBatch(promptContent, paramsByKey) + System.lineSeparator() + converter.getFormat();
+
+        String content = aiConcurrencyLimiter.executeLongRunning(type, () -> fortuneChatClient
+                .prompt()
+                .user(userText)
+                .call()
+                .content());
+
+        AIBatchFortuneResponse<T> response = converter.convert(content);
+        Map<String, T> results = new LinkedHashMap<>();
+        if (response == null || response.results() == null) {
+            return results;
+        }
+        for (AIBatchFortuneResponse.Item<T> item : response.results()) {
+            if (item.key() != null && item.fortune() != null && paramsByKey.containsKey(item.key())) {
+                results.putIfAbsent(item.key(), item.fortune());
+            }
+        }
+        return results;
+    }
+
+    // 공통 지시문은 한 번만 보내고, 대상별 값은 목록으로 붙인다
+    private String renderBatch(String promptContent, Map<String, Map<String, Object>> paramsByKey) {
+        CompiledPrompt prompt = promptTemplateRegistry.get(promptContent);
+        Map<String, Object> placeholders = new HashMap<>();
+        prompt.getVariableNames().forEach(name -> placeholders.put(name, "[대상의 " + name + "]"));
+
+        StringBuilder sb = new StringBuilder()
+                .append("아래 지시문을 [대상 목록]의 각 대상에게 따로 적용해, 대상마다 독립된 결과를 만들어 주세요.")
+                .append(System.lineSeparator())
+                .append("각 결과의 key 에는 대상의 key 를 그대로 넣고, 모든 대상의 결과를 빠짐없이 results 에 담아 주세요.")
+                .append(System.lineSeparator()).append(System.lineSeparator())
+                .append(prompt.render(placeholders))
+                .append(System.lineSeparator())
+                .append("[대상 목록]")
+                .append(System.lineSeparator());
+
+        paramsByKey.forEach((key, params) -> {
+            sb.append("- key: ").append(key);
+            prompt.getVariableNames().forEach(name -> sb.append(", ").append(name).append(": ").append(params.get(name)));
+            sb.append(System.lineSeparator());
+        });
+        return sb.toString();
+    }
+
+    // 미리 컴파일된 템플릿 + 응답 형식 안내(JSON 스키마)
+    private String render(String promptContent, Map<String, Object> params, BeanOutputConverter<?> converter) {
+        return promptTemplateRegistry.get(promptContent).render(params)
+                + System.lineSeparator() + converter.getFormat();
     }
-}
\ No newline at end of file
+}
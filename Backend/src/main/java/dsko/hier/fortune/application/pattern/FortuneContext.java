@@ -1,28 +1,83 @@
 package dsko.hier.fortune.application.pattern;
 
+import dsko.hier.fortune.application.analytics.FortuneMinuteBuckets;
 import dsko.hier.fortune.application.strategy.FortuneStrategy;
 import dsko.hier.global.redis.RedisHashService;
+import dsko.hier.global.redis.RedisPipelineExecutor;
 import dsko.hier.security.domain.User;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FortuneContext {
 
     private final UserValidator userValidator;
     private final RedisHashService redisHashService;
+    private final FortuneMinuteBuckets minuteBuckets;
+    private final RedisPipelineExecutor redisPipeline;
 
     public <T> T getFortune(String userEmail, FortuneStrategy<T> strategy, Object requestDto) {
-        // 1. 사용자 정보 조회 및 예외 처리
+        // 1. 사용자 정보 조회 및 횟수 예약 (짧은 트랜잭션으로 즉시 커밋)
         User user = userValidator.validate(userEmail);
 
-        // 2. 전략에 따라 AI 호출 및 결과 반환
-        T result = strategy.execute(user, requestDto);
+        // 2. 전략에 따라 AI 호출(트랜잭션 밖) 및 결과 저장, 실패 시 예약한 횟수 환불
+        long startedAt = System.nanoTime();
+        T result = executeOrRefund(userEmail, () -> strategy.execute(user, requestDto));
 
-        // 3. Redis 카운트 증가
-        redisHashService.incrementFortuneCount(strategy.getRedisType());
+        // 3. Redis 카운트 증가 및 분 단위 통계 기록
+        recordUsage(strategy.getRedisType(), elapsedMillis(startedAt));
 
         return result;
     }
+
+    public <T> T streamFortune(String userEmail, FortuneStrategy<T> strategy, Object requestDto,
+                               Consumer<String> onChunk) {
+        User user = userValidator.validate(userEmail);
+
+        long startedAt = System.nanoTime();
+        T result = executeOrRefund(userEmail, () -> strategy.executeStreaming(user, requestDto, onChunk));
+
+        recordUsage(strategy.getRedisType(), elapsedMillis(startedAt));
+
+        return result;
+    }
+
+    private <T> T executeOrRefund(String userEmail, Supplier<T> generation) {
+        try {
+            return generation.get();
+        } catch (RuntimeException e) {
+            log.warn("운세 생성 실패로 사용자 {}의 횟수를 환불합니다: {}", userEmail, e.getMessage());
+            userValidator.refund(userEmail);
+            throw e;
+        }
+    }
+
+    /**
+     * 배치로 미리 생성된 결과를 처음 전달할 때 AI 호출 없이 횟수 차감과 카운트 증가만 수행합니다.
+     */
+    public void chargeForPrecomputed(String userEmail, FortuneStrategy<?> strategy) {
+        userValidator.validate(userEmail);
+        recordUsage(strategy.getRedisType(), null);
+    }
+
+    // 전체 카운트와 분 단위 통계를 한 번의 왕복으로 기록합니다. 이미 저장된 결과는 통계 실패로 버리지 않습니다.
+    private void recordUsage(String type, Long latencyMs) {
+        try {
+            redisPipeline.execute(connection -> {
+                redisHashService.incrementFortuneCount(connection, type);
+                minuteBuckets.record(connection, type, latencyMs);
+            });
+        } catch (RuntimeException e) {
+            log.warn("운세 사용 통계 기록 실패. type={}", type, e);
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
 }
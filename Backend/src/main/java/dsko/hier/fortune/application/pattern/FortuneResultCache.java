@@ -0,0 +1,146 @@
+package dsko.hier.fortune.application.pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import dsko.hier.global.config.FortuneResultCacheProperties;
+import dsko.hier.global.response.APIResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * ID로 조회하는 운세 결과 캐시.
+ * <p>
+ * 저장된 결과는 바뀌지 않으므로 APIResponse 로 감싼 JSON 을 미리 직렬화해 로컬(Caffeine) → Redis 순으로 보관합니다. 생성 시점에 각 전략이 채워 넣고(write-through),
+ * 없으면 DB 에서 읽어 채웁니다(read-through). 캐시 적중 시에는 DB 조회와 Jackson 직렬화를 모두 건너뜁니다. 결과가 삭제되면(사용자 삭제) evict 로 Redis 와
+ * 모든 서버의 로컬 캐시에서 지웁니다.
+ */
+@Slf4j
+@Component
+public class FortuneResultCache {
+
+    private static final String REDIS_KEY_PREFIX = "fortune:result:";
+    private static final String METRIC_NAME = "fortune.result.cache";
+    public static final String EVICTION_CHANNEL = "fortune:result:evicted";
+
+    private final FortuneResultCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, byte[]> localCache;
+
+    public FortuneResultCache(FortuneResultCacheProperties properties, StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              RedisMessageListenerContainer listenerContainer) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.listenerContainer = listenerContainer;
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getLocalMaximumBytes())
+                .weigher((String key, byte[] json) -> json.length)
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+    }
+
+    // 다른 서버에서 지운 결과를 로컬 캐시에서도 제거
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EVICTION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 응답 본문(JSON)을 반환하거나, 없으면 loader 로 조회해 저장합니다. loader 의 예외(결과 없음 등)는 그대로 전파되며 캐시하지 않습니다.
+     */
+    public byte[] getOrLoad(ResultType type, UUID resultId, Supplier<?> loader) {
+        String key = key(type, resultId);
+
+        byte[] local = localCache.getIfPresent(key);
+        if (local != null) {
+            record(type, "local_hit");
+            return local;
+        }
+
+        try {
+            String shared = stringRedisTemplate.opsForValue().get(key);
+            if (shared != null) {
+                record(type, "redis_hit");
+                byte[] json = shared.getBytes(StandardCharsets.UTF_8);
+                localCache.put(key, json);
+                return json;
+            }
+        } catch (Exception e) {
+            log.warn("결과 캐시 조회 실패, DB 에서 조회합니다. key={}", key, e);
+        }
+
+        record(type, "miss");
+        return store(key, loader.get());
+    }
+
+    /**
+     * 생성 직후의 결과를 캐시에 넣습니다. 캐시 실패는 결과 생성에 영향을 주지 않습니다.
+     */
+    public void put(ResultType type, UUID resultId, Object response) {
+        if (resultId == null) {
+            return;
+        }
+        try {
+            store(key(type, resultId), response);
+        } catch (Exception e) {
+            log.warn("결과 캐시 저장 실패. type={}, id={}", type, resultId, e);
+        }
+    }
+
+    /**
+     * 삭제된 결과를 Redis 와 로컬 캐시에서 지우고, 다른 서버의 로컬 캐시에도 알립니다.
+     */
+    public void evict(ResultType type, UUID resultId) {
+        String key = key(type, resultId);
+        localCache.invalidate(key);
+        stringRedisTemplate.delete(key);
+        stringRedisTemplate.convertAndSend(EVICTION_CHANNEL, key);
+    }
+
+    private byte[] store(String key, Object response) {
+        byte[] json = toJson(response);
+        localCache.put(key, json);
+        try {
+            stringRedisTemplate.opsForValue()
+                    .set(key, new String(json, StandardCharsets.UTF_8), properties.getRedisTtl());
+        } catch (Exception e) {
+            log.warn("결과 캐시 Redis 저장 실패. key={}", key, e);
+        }
+        return json;
+    }
+
+    private byte[] toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(APIResponse.success(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("운세 결과를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static String key(ResultType type, UUID resultId) {
+        return REDIS_KEY_PREFIX + type.name() + ":" + resultId;
+    }
+
+    private void record(ResultType type, String result) {
+        meterRegistry.counter(METRIC_NAME, "type", type.name(), "result", result).increment();
+    }
+}
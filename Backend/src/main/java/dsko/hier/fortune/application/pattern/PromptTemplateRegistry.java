@@ -0,0 +1,49 @@
+package dsko.hier.fortune.application.pattern;
+
+import dsko.hier.fortune.application.PromptSupplier;
+import dsko.hier.fortune.dto.ai.AIBatchFortuneResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전략별 프롬프트 템플릿과 응답 형식(JSON 스키마) 변환기를 한 번만 만들어 재사용하는 저장소.
+ * <p>
+ * 요청마다 PromptTemplate 을 새로 파싱하고 BeanOutputConverter 가 JSON 스키마를 다시 생성하던 비용을 없앱니다.
+ */
+@Component
+public class PromptTemplateRegistry {
+
+    private final Map<String, CompiledPrompt> templates = new ConcurrentHashMap<>();
+    private final Map<Class<?>, BeanOutputConverter<?>> converters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, BeanOutputConverter<?>> batchConverters = new ConcurrentHashMap<>();
+
+    public PromptTemplateRegistry() {
+        // 애플리케이션 시작 시 모든 전략의 템플릿을 미리 컴파일
+        List.of(PromptSupplier.daily(), PromptSupplier.total(), PromptSupplier.face(), PromptSupplier.dream())
+                .forEach(this::get);
+    }
+
+    public CompiledPrompt get(String promptContent) {
+        return templates.computeIfAbsent(promptContent, CompiledPrompt::compile);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> BeanOutputConverter<T> converter(Class<T> responseClass) {
+        return (BeanOutputConverter<T>) converters.computeIfAbsent(responseClass, BeanOutputConverter::new);
+    }
+
+    /**
+     * 여러 사용자 응답을 감싼 AIBatchFortuneResponse&lt;T&gt; 용 변환기
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BeanOutputConverter<AIBatchFortuneResponse<T>> batchConverter(Class<T> responseClass) {
+        return (BeanOutputConverter<AIBatchFortuneResponse<T>>) batchConverters.computeIfAbsent(responseClass,
+                type -> new BeanOutputConverter<>(ParameterizedTypeReference.forType(
+                        ResolvableType.forClassWithGenerics(AIBatchFortuneResponse.class, type).getType())));
+    }
+}
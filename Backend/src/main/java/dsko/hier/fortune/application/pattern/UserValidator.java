@@ -7,15 +7,19 @@ import dsko.hier.security.domain.User;
 import dsko.hier.security.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * UserValidator는 사용자의 존재 여부를 확인하고, 사용자의 플랜을 검증하는 역할을 합니다. 이 클래스는 UserRepository와 UserPlanService를 주입받아 사용합니다.
+ * <p>
+ * 횟수 예약(validate)과 환불(refund)은 Redis 카운터에서 바로 처리되므로 AI 호출 동안 DB 커넥션이나 UserPlan 행 잠금을 잡지 않습니다. 사용자 조회만 짧은 읽기 전용
+ * 트랜잭션으로 실행합니다.
  */
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
 public class UserValidator {
 
     private final UserRepository userRepository;
@@ -31,4 +35,8 @@ public class UserValidator {
 
         return user;
     }
+
+    public void refund(String userEmail) {
+        userPlanService.refundFreeFortuneCount(userEmail);
+    }
 }
\ No newline at end of file
@@ -4,7 +4,11 @@ import static lombok.AccessLevel.PROTECTED;
 
 import dsko.hier.fortune.application.pattern.FortuneAIGenerator;
 import dsko.hier.security.domain.User;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -26,14 +30,71 @@ public abstract class AbstractFortuneStrategy<T> implements FortuneStrategy<T> {
 
     protected abstract Class<?> getAiResponseClass();
 
+    /**
+     * 같은 프롬프트 입력이면 AI 응답을 재사용해도 되는 전략은 캐시 키에 함께 넣을 범위(예: 날짜)를 반환합니다. null 이면 캐시하지 않습니다.
+     */
+    protected String getCacheScope() {
+        return null;
+    }
+
+    /**
+     * 여러 사용자의 결과를 한 번의 AI 요청으로 생성해 저장하고, 저장된 사용자를 반환합니다. 응답에서 빠진 사용자는 반환값에 포함되지 않으므로 호출한 쪽에서 개별 생성 등으로 처리해야 합니다.
+     * 요청 DTO 가 필요 없는 전략(오늘의 운세, 평생 운세)에서만 사용할 수 있습니다.
+     */
+    public final Set<User> executeBatch(List<User> users) {
+        Map<String, User> usersByKey = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> paramsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            // 개인정보 대신 짧은 순번을 key 로 사용
+            String key = "u" + (i + 1);
+            usersByKey.put(key, users.get(i));
+            paramsByKey.put(key, getPromptParams(users.get(i), null));
+        }
+
+        Map<String, ?> responses = fortuneAIGenerator.callAIBatch(getRedisType(), getPromptContent(), paramsByKey,
+                getAiResponseClass());
+
+        Map<User, Object> responsesByUser = new LinkedHashMap<>();
+        responses.forEach((key, response) -> responsesByUser.put(usersByKey.get(key), response));
+        return processResults(responsesByUser);
+    }
+
+    /**
+     * executeBatch 의 결과 저장 후 저장된 사용자를 반환합니다. 기본은 한 건씩 processResult 를 호출하며, 일괄 저장이 가능한 전략은 재정의합니다.
+     */
+    protected Set<User> processResults(Map<User, Object> responses) {
+        responses.forEach(this::processResult);
+        return responses.keySet();
+    }
+
     @Override
     public final T execute(User user, Object requestDto) {
-        Object aiResponse = fortuneAIGenerator.callAI(
+        return processResult(user, generate(user, requestDto));
+    }
+
+    protected final Object generate(User user, Object requestDto) {
+        Map<String, Object> params = getPromptParams(user, requestDto); // requestDto를 사용하도록 수정
+        String cacheScope = getCacheScope();
+        if (cacheScope == null) {
+            return fortuneAIGenerator.callAI(getRedisType(), getPromptContent(), params, getAiResponseClass());
+        }
+        return fortuneAIGenerator.callAICached(getRedisType(), cacheScope, getPromptContent(), params,
+                getAiResponseClass());
+    }
+
+    /**
+     * execute 의 스트리밍 버전. AI 응답 조각을 onChunk 로 전달하고, 스트림이 모두 끝난 뒤에만 결과를 저장합니다.
+     */
+    @Override
+    public final T executeStreaming(User user, Object requestDto, Consumer<String> onChunk) {
+        Object aiResponse = fortuneAIGenerator.streamAI(
+                getRedisType(),
                 getPromptContent(),
-                getPromptParams(user, requestDto), // requestDto를 사용하도록 수정
-                getAiResponseClass()
+                getPromptParams(user, requestDto),
+                getAiResponseClass(),
+                onChunk
         );
 
         return processResult(user, aiResponse);
     }
-}
\ No newline at end of file
+}
@@ -2,28 +2,38 @@ package dsko.hier.fortune.daily.application;
 
 import dsko.hier.fortune.application.PromptSupplier;
 import dsko.hier.fortune.application.pattern.FortuneAIGenerator;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
 import dsko.hier.fortune.application.strategy.AbstractFortuneStrategy;
 import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
 import dsko.hier.fortune.domain.dailyDomain.DailyFortuneRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import dsko.hier.fortune.dto.DailyFortuneResponse;
 import dsko.hier.fortune.dto.ai.AIDailyFortuneResponse;
 import dsko.hier.global.redis.RedisHashService;
 import dsko.hier.security.domain.User;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 /**
  * 오늘의 운세용 구체 전략 클래스
  */
 
+@Slf4j
 @Service
 public class DailyFortuneStrategy extends AbstractFortuneStrategy<DailyFortuneResponse> {
 
     private final DailyFortuneRepository dailyFortuneRepository;
+    private final FortuneResultCache resultCache;
 
-    public DailyFortuneStrategy(FortuneAIGenerator fortuneAIGenerator, DailyFortuneRepository dailyFortuneRepository) {
+    public DailyFortuneStrategy(FortuneAIGenerator fortuneAIGenerator, DailyFortuneRepository dailyFortuneRepository,
+                                FortuneResultCache resultCache) {
         super(fortuneAIGenerator);
         this.dailyFortuneRepository = dailyFortuneRepository;
+        this.resultCache = resultCache;
     }
 
     @Override
@@ -45,10 +55,65 @@ public class DailyFortuneStrategy extends AbstractFortuneStrategy<DailyFortuneRe
 
     @Override
     protected DailyFortuneResponse processResult(User user, Object aiResponse) {
-        AIDailyFortuneResponse aiDailyResponse = (AIDailyFortuneResponse) aiResponse;
+        return save(user, (AIDailyFortuneResponse) aiResponse, false);
+    }
+
+    /**
+     * 배치에서 사용하는 사전 생성. 사용자가 처음 조회할 때 횟수가 차감되도록 precomputed 로 저장합니다.
+     */
+    public DailyFortuneResponse precompute(User user) {
+        return save(user, (AIDailyFortuneResponse) generate(user, null), true);
+    }
+
+    /**
+     * 배치 생성 결과는 모두 사전 생성분이므로 precomputed 로 일괄 저장합니다. 일괄 저장이 실패하면 이미 받은 AI 응답으로 한 건씩 다시 저장하고, 저장된 사용자만
+     * 반환합니다 (저장에 실패한 사용자만 호출한 쪽에서 다시 생성).
+     */
+    @Override
+    protected Set<User> processResults(Map<User, Object> responses) {
+        try {
+            dailyFortuneRepository.saveAll(responses.entrySet().stream()
+                    .map(entry -> toPrecomputedEntity(entry.getKey(), entry.getValue()))
+                    .toList());
+            return responses.keySet();
+        } catch (RuntimeException e) {
+            log.warn("오늘의 운세 일괄 저장 실패, 한 건씩 저장합니다: {}", e.getMessage());
+        }
+
+        Set<User> saved = new LinkedHashSet<>();
+        responses.forEach((user, aiResponse) -> {
+            try {
+                // 실패한 트랜잭션의 엔티티는 재사용하지 않고 새로 만듦
+                dailyFortuneRepository.save(toPrecomputedEntity(user, aiResponse));
+                saved.add(user);
+            } catch (RuntimeException e) {
+                log.warn("사용자 {}의 오늘의 운세 저장 실패: {}", user.getEmail(), e.getMessage());
+            }
+        });
+        return saved;
+    }
+
+    private static DailyFortune toPrecomputedEntity(User user, Object aiResponse) {
+        DailyFortune dailyFortune = AIDailyFortuneResponse.toEntity(user, (AIDailyFortuneResponse) aiResponse);
+        dailyFortune.markPrecomputed();
+        return dailyFortune;
+    }
+
+    private DailyFortuneResponse save(User user, AIDailyFortuneResponse aiDailyResponse, boolean precomputed) {
         DailyFortune dailyFortune = AIDailyFortuneResponse.toEntity(user, aiDailyResponse);
+        if (precomputed) {
+            dailyFortune.markPrecomputed();
+        }
         DailyFortune savedFortune = dailyFortuneRepository.save(dailyFortune);
-        return DailyFortuneResponse.fromEntity(savedFortune);
+        DailyFortuneResponse response = DailyFortuneResponse.fromEntity(savedFortune);
+        resultCache.put(ResultType.DAILY_FORTUNE, response.id(), response);
+        return response;
+    }
+
+    // 같은 날 같은 생년월일시·성별이면 같은 운세를 재사용
+    @Override
+    protected String getCacheScope() {
+        return LocalDate.now().toString();
     }
 
     @Override
@@ -3,7 +3,9 @@ package dsko.hier.fortune.application.strategy;
 
 import dsko.hier.fortune.application.PromptSupplier;
 import dsko.hier.fortune.application.pattern.FortuneAIGenerator;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
 import dsko.hier.fortune.domain.dreamDomain.DreamAnalysisRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import dsko.hier.fortune.dto.DeramKeyword;
 import dsko.hier.fortune.dto.DreamRequestDto;
 import dsko.hier.fortune.dto.DreamResponse;
@@ -17,10 +19,13 @@ import org.springframework.stereotype.Service;
 public class DreamInterpreationStrategy extends AbstractFortuneStrategy<DreamResponse> {
 
     private final DreamAnalysisRepository dreamAnalysisRepository;
+    private final FortuneResultCache resultCache;
 
-    public DreamInterpreationStrategy(FortuneAIGenerator fortuneAIGenerator, DreamAnalysisRepository repository) {
+    public DreamInterpreationStrategy(FortuneAIGenerator fortuneAIGenerator, DreamAnalysisRepository repository,
+                                      FortuneResultCache resultCache) {
         super(fortuneAIGenerator);
         this.dreamAnalysisRepository = repository;
+        this.resultCache = resultCache;
     }
 
     @Override
@@ -48,11 +53,13 @@ public class DreamInterpreationStrategy extends AbstractFortuneStrategy<DreamRes
     @Override
     protected DreamResponse processResult(User user, Object aiResponse) {
         AIDreamResponse aiDreamResponse = (AIDreamResponse) aiResponse;
-        return DreamResponse.fromEntity(
+        DreamResponse response = DreamResponse.fromEntity(
                 dreamAnalysisRepository.save(
                         AIDreamResponse.toEntity(user, aiDreamResponse)
                 )
         );
+        resultCache.put(ResultType.DREAM, response.id(), response);
+        return response;
     }
 
     @Override
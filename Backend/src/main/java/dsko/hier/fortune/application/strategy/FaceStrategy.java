@@ -2,8 +2,10 @@ package dsko.hier.fortune.application.strategy;
 
 import dsko.hier.fortune.application.PromptSupplier;
 import dsko.hier.fortune.application.pattern.FortuneAIGenerator;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
 import dsko.hier.fortune.domain.faceDomain.Face;
 import dsko.hier.fortune.domain.faceDomain.FaceRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import dsko.hier.fortune.dto.FaceAnalyzeResponse;
 import dsko.hier.fortune.dto.ai.AIFaceAnalyzeResult;
 import dsko.hier.global.redis.RedisHashService;
@@ -15,10 +17,13 @@ import org.springframework.stereotype.Service;
 public class FaceStrategy extends AbstractFortuneStrategy<FaceAnalyzeResponse> {
 
     private final FaceRepository repository;
+    private final FortuneResultCache resultCache;
 
-    public FaceStrategy(FortuneAIGenerator fortuneAIGenerator, FaceRepository repository) {
+    public FaceStrategy(FortuneAIGenerator fortuneAIGenerator, FaceRepository repository,
+                        FortuneResultCache resultCache) {
         super(fortuneAIGenerator);
         this.repository = repository;
+        this.resultCache = resultCache;
     }
 
     @Override
@@ -40,7 +45,9 @@ public class FaceStrategy extends AbstractFortuneStrategy<FaceAnalyzeResponse> {
         Face saveFaceAnalyzeResult = repository.save(
                 AIFaceAnalyzeResult.toEntity(user, aiResult)
         );
-        return FaceAnalyzeResponse.fromEntity(saveFaceAnalyzeResult);
+        FaceAnalyzeResponse response = FaceAnalyzeResponse.fromEntity(saveFaceAnalyzeResult);
+        resultCache.put(ResultType.FACE, response.id(), response);
+        return response;
     }
 
     @Override
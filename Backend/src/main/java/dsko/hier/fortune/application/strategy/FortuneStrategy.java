@@ -1,9 +1,12 @@
 package dsko.hier.fortune.application.strategy;
 
 import dsko.hier.security.domain.User;
+import java.util.function.Consumer;
 
 public interface FortuneStrategy<T> {
     T execute(User user, Object requestDto);
 
+    T executeStreaming(User user, Object requestDto, Consumer<String> onChunk);
+
     String getRedisType();
 }
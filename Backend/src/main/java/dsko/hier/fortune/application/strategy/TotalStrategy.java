@@ -2,23 +2,31 @@ package dsko.hier.fortune.application.strategy;
 
 import dsko.hier.fortune.application.PromptSupplier;
 import dsko.hier.fortune.application.pattern.FortuneAIGenerator;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
 import dsko.hier.fortune.domain.totalDomain.TotalFortune;
 import dsko.hier.fortune.domain.totalDomain.TotalFortuneRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import dsko.hier.fortune.dto.TotalFortuneResponse;
 import dsko.hier.fortune.dto.ai.AITotalFortuneResponse;
 import dsko.hier.global.redis.RedisHashService;
 import dsko.hier.security.domain.User;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 @Service
 public class TotalStrategy extends AbstractFortuneStrategy<TotalFortuneResponse> {
 
     private final TotalFortuneRepository repository;
+    private final FortuneResultCache resultCache;
 
-    public TotalStrategy(FortuneAIGenerator fortuneAIGenerator, TotalFortuneRepository repository) {
+    public TotalStrategy(FortuneAIGenerator fortuneAIGenerator, TotalFortuneRepository repository,
+                         FortuneResultCache resultCache) {
         super(fortuneAIGenerator);
         this.repository = repository;
+        this.resultCache = resultCache;
     }
 
     @Override
@@ -43,7 +51,24 @@ public class TotalStrategy extends AbstractFortuneStrategy<TotalFortuneResponse>
         AITotalFortuneResponse aiDailyResponse = (AITotalFortuneResponse) aiResponse;
         TotalFortune entity = AITotalFortuneResponse.toEntity(user, aiDailyResponse);
         TotalFortune save = repository.save(entity);
-        return TotalFortuneResponse.fromEntity(save);
+        TotalFortuneResponse response = TotalFortuneResponse.fromEntity(save);
+        resultCache.put(ResultType.LIFE_LONG, response.id(), response);
+        return response;
+    }
+
+    // 평생 운세는 생년월일시·성별만으로 정해지므로 날짜와 무관하게 재사용
+    @Override
+    protected String getCacheScope() {
+        return "lifelong";
+    }
+
+    @Override
+    protected Set<User> processResults(Map<User, Object> responses) {
+        List<TotalFortune> entities = new ArrayList<>();
+        responses.forEach((user, aiResponse) ->
+                entities.add(AITotalFortuneResponse.toEntity(user, (AITotalFortuneResponse) aiResponse)));
+        repository.saveAll(entities);
+        return responses.keySet();
     }
 
     @Override
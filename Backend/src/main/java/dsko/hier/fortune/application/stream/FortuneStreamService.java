@@ -0,0 +1,121 @@
+package dsko.hier.fortune.application.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dsko.hier.fortune.application.pattern.FortuneContext;
+import dsko.hier.fortune.application.strategy.DreamInterpreationStrategy;
+import dsko.hier.fortune.application.strategy.TotalStrategy;
+import dsko.hier.fortune.domain.totalDomain.TotalFortuneRepository;
+import dsko.hier.fortune.dto.DreamRequestDto;
+import dsko.hier.fortune.dto.TotalFortuneResponse;
+import dsko.hier.global.config.FortuneJobProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import dsko.hier.global.redis.SingleFlightService;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 장문 운세(평생 운세, 꿈 해몽)를 SSE 로 스트리밍합니다. AI 응답의 최상위 섹션이 완성될 때마다 section 이벤트를 보내고, 스트림이 끝나 결과가 저장되면 result 이벤트로 최종 응답을
+ * 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FortuneStreamService {
+
+    private static final String SECTION_EVENT = "section";
+    private static final String RESULT_EVENT = "result";
+    private static final String ERROR_EVENT = "error";
+
+    private final FortuneContext fortuneContext;
+    private final TotalStrategy totalStrategy;
+    private final DreamInterpreationStrategy dreamInterpreationStrategy;
+    private final TotalFortuneRepository totalFortuneRepository;
+    private final AsyncTaskExecutor fortuneTaskExecutor;
+    private final FortuneJobProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SingleFlightService singleFlightService;
+
+    public SseEmitter streamTotalFortune(String userEmail) {
+        SseEmitter emitter = createEmitter();
+
+        Optional<TotalFortuneResponse> existing = findTotalFortune(userEmail);
+        if (existing.isPresent()) {
+            log.info("사용자 {}의 평생 운세가 이미 존재하여 스트리밍 없이 결과를 반환합니다.", userEmail);
+            sendEvent(emitter, RESULT_EVENT, existing.get());
+            emitter.complete();
+            return emitter;
+        }
+
+        // 같은 사용자의 중복 요청은 먼저 시작된 생성 결과를 받습니다(섹션 이벤트 없이 result 만 전송).
+        return start(emitter, onChunk -> singleFlightService.execute(
+                "lifelong:" + userEmail,
+                () -> findTotalFortune(userEmail),
+                () -> fortuneContext.streamFortune(userEmail, totalStrategy, null, onChunk)
+        ));
+    }
+
+    private Optional<TotalFortuneResponse> findTotalFortune(String userEmail) {
+        return totalFortuneRepository.findByUserEmail(userEmail)
+                .map(TotalFortuneResponse::fromEntity);
+    }
+
+    public SseEmitter streamDreamInterpretation(String userEmail, DreamRequestDto request) {
+        return start(createEmitter(),
+                onChunk -> fortuneContext.streamFortune(userEmail, dreamInterpreationStrategy, request, onChunk));
+    }
+
+    private SseEmitter start(SseEmitter emitter, Function<Consumer<String>, Object> generation) {
+        try {
+            fortuneTaskExecutor.execute(() -> run(emitter, generation));
+        } catch (TaskRejectedException e) {
+            throw new TooManyRequestsException("운세 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, Function<Consumer<String>, Object> generation) {
+        JsonSectionParser parser = new JsonSectionParser();
+        try {
+            Object result = generation.apply(chunk -> parser.feed(chunk)
+                    .forEach(section -> sendSection(emitter, section)));
+            sendEvent(emitter, RESULT_EVENT, result);
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.warn("운세 스트리밍 실패: {}", e.getMessage());
+            sendEvent(emitter, ERROR_EVENT, Map.of("message", String.valueOf(e.getMessage())));
+            emitter.complete();
+        }
+    }
+
+    private void sendSection(SseEmitter emitter, JsonSectionParser.Section section) {
+        try {
+            JsonNode content = objectMapper.readTree(section.json());
+            sendEvent(emitter, SECTION_EVENT, Map.of("name", section.name(), "content", content));
+        } catch (JsonProcessingException e) {
+            log.debug("섹션 JSON 파싱 실패, 건너뜀: {}", section.name());
+        }
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패(클라이언트 연결 종료): {}", e.getMessage());
+        }
+    }
+
+    private SseEmitter createEmitter() {
+        return new SseEmitter(properties.getSseTimeoutSeconds() * 1000);
+    }
+}
@@ -0,0 +1,97 @@
+package dsko.hier.fortune.application.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 들어오는 JSON 응답에서 최상위 필드(섹션)가 완성될 때마다 잘라내는 증분 파서. 예: {"personality": {...}, "wealth": {...}} 에서 personality 값이 닫히는
+ * 순간 ("personality", "{...}") 섹션을 반환합니다. 스레드 안전하지 않으므로 스트림 하나에 인스턴스 하나를 사용합니다.
+ */
+public class JsonSectionParser {
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private int position;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    private int keyStart = -1;
+    private String currentKey;
+    private boolean expectingValue;
+    private int valueStart = -1;
+
+    public record Section(String name, String json) {
+    }
+
+    public List<Section> feed(String chunk) {
+        buffer.append(chunk);
+        List<Section> completed = new ArrayList<>();
+
+        for (; position < buffer.length(); position++) {
+            char c = buffer.charAt(position);
+
+            if (inString) {
+                readStringChar(c);
+                continue;
+            }
+
+            if (expectingValue && !Character.isWhitespace(c)) {
+                expectingValue = false;
+                valueStart = position;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    if (depth == 1 && currentKey == null) {
+                        keyStart = position + 1;
+                    }
+                }
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    if (depth == 1 && c == '}') {
+                        emit(completed);
+                    }
+                    depth = Math.max(0, depth - 1);
+                }
+                case ':' -> {
+                    if (depth == 1 && currentKey != null && valueStart < 0) {
+                        expectingValue = true;
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        emit(completed);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return completed;
+    }
+
+    private void readStringChar(char c) {
+        if (escaped) {
+            escaped = false;
+        } else if (c == '\\') {
+            escaped = true;
+        } else if (c == '"') {
+            inString = false;
+            if (keyStart >= 0) {
+                currentKey = buffer.substring(keyStart, position);
+                keyStart = -1;
+            }
+        }
+    }
+
+    private void emit(List<Section> completed) {
+        if (currentKey != null && valueStart >= 0) {
+            completed.add(new Section(currentKey, buffer.substring(valueStart, position).trim()));
+        }
+        currentKey = null;
+        valueStart = -1;
+        expectingValue = false;
+    }
+}
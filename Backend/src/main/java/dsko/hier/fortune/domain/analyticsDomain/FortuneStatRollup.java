@@ -0,0 +1,69 @@
+package dsko.hier.fortune.domain.analyticsDomain;
+
+import static jakarta.persistence.EnumType.STRING;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 분 단위 버킷을 시간/일 단위로 압축해 저장한 운세 처리량 집계.
+ * 압축기가 같은 구간을 다시 계산해도 결과가 같도록 값은 누적하지 않고 덮어씁니다.
+ */
+@Entity
+@Table(name = "fortune_stat_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_fortune_stat_rollup_bucket",
+                columnNames = {"granularity", "bucket_start", "fortune_type"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FortuneStatRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // RedisHashService 의 운세 타입 키 (daily, weekly, face, dream)
+    @Column(name = "fortune_type", nullable = false, length = 20)
+    private String fortuneType;
+
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    @Column(name = "latency_sum_ms", nullable = false)
+    private long latencySumMs;
+
+    // 지연 시간이 기록된 요청 수 (사전 생성분 전달은 횟수만 기록)
+    @Column(name = "latency_samples", nullable = false)
+    private long latencySamples;
+
+    public static FortuneStatRollup of(RollupGranularity granularity, LocalDateTime bucketStart, String fortuneType) {
+        FortuneStatRollup rollup = new FortuneStatRollup();
+        rollup.granularity = granularity;
+        rollup.bucketStart = bucketStart;
+        rollup.fortuneType = fortuneType;
+        return rollup;
+    }
+
+    public void overwrite(StatTotals totals) {
+        this.requestCount = totals.requestCount();
+        this.latencySumMs = totals.latencySumMs();
+        this.latencySamples = totals.latencySamples();
+    }
+}
@@ -0,0 +1,21 @@
+package dsko.hier.fortune.domain.analyticsDomain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FortuneStatRollupRepository {
+    /**
+     * 버킷의 타입별 합계를 덮어씁니다. 없으면 새로 만듭니다.
+     */
+    void overwrite(RollupGranularity granularity, LocalDateTime bucketStart, Collection<StatTotals> totals);
+
+    /**
+     * [from, to) 구간의 시간 단위 집계를 타입별로 합산합니다.
+     */
+    List<StatTotals> sumHourly(LocalDateTime from, LocalDateTime to);
+
+    List<FortuneStatRollup> findRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    int deleteBefore(RollupGranularity granularity, LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package dsko.hier.fortune.domain.analyticsDomain;
+
+public enum RollupGranularity {
+    MINUTE,
+    HOUR,
+    DAY
+}
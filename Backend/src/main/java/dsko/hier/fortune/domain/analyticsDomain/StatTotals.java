@@ -0,0 +1,16 @@
+package dsko.hier.fortune.domain.analyticsDomain;
+
+/**
+ * 한 버킷(또는 구간)의 운세 타입별 합계
+ */
+public record StatTotals(
+        String fortuneType,
+        long requestCount,
+        long latencySumMs,
+        long latencySamples
+) {
+    public StatTotals plus(StatTotals other) {
+        return new StatTotals(fortuneType, requestCount + other.requestCount,
+                latencySumMs + other.latencySumMs, latencySamples + other.latencySamples);
+    }
+}
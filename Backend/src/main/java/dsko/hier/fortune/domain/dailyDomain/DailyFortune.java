@@ -14,13 +14,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
 import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "daily_fortune")
+@Table(name = "daily_fortune",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_fortune_user_date", columnNames = {"user_id", "fortune_date"}))
 @Getter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class DailyFortune extends BaseTimeEntity {
@@ -32,6 +35,10 @@ public class DailyFortune extends BaseTimeEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 운세 날짜. (user_id, fortune_date) 유니크 인덱스로 사용자당 하루 한 건을 보장합니다.
+    @Column(name = "fortune_date")
+    private LocalDate fortuneDate;
+
     @Column(name = "overall_rating", nullable = false)
     private int overallRating; // 별점 (1~5)
 
@@ -62,9 +69,14 @@ public class DailyFortune extends BaseTimeEntity {
     @Column(name = "tomorrow_preview", columnDefinition = "TEXT")
     private String tomorrowPreview;
 
+    // 배치로 미리 생성되어 아직 사용자에게 전달(횟수 차감)되지 않은 운세인지 여부
+    @Column(name = "precomputed", nullable = false)
+    private boolean precomputed;
+
     @Builder
     public DailyFortune(User user, AIDailyFortuneResponse resp) {
         this.user = user;
+        this.fortuneDate = LocalDate.now();
         this.overallRating = resp.overallRating();
         this.overallSummary = resp.overallSummary();
         this.fortuneWealth = resp.wealth();
@@ -76,4 +88,8 @@ public class DailyFortune extends BaseTimeEntity {
         this.fortuneAdvice = resp.advice();
         this.tomorrowPreview = resp.tomorrowPreview();
     }
+
+    public void markPrecomputed() {
+        this.precomputed = true;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package dsko.hier.fortune.domain.dailyDomain;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,9 +8,23 @@ import java.util.UUID;
 public interface DailyFortuneRepository {
     DailyFortune save(DailyFortune dailyFortune);
 
-    Optional<DailyFortune> findByFortuneDateAndUserEmail(String userEmail, LocalDateTime today);
+    List<DailyFortune> saveAll(List<DailyFortune> dailyFortunes);
+
+    Optional<DailyFortune> findByFortuneDateAndUserEmail(String userEmail, LocalDate fortuneDate);
 
     List<DailyFortune> findAllByUserEmail(String username);
 
     Optional<DailyFortune> findById(UUID resultId);
+
+    List<String> findUserEmailsWithFortuneSince(LocalDate since);
+
+    /**
+     * 사전 생성된 운세를 전달 완료로 바꾸고 결과 목록에 추가합니다. 동시에 여러 요청이 와도 한 요청만 true 를 받습니다.
+     */
+    boolean claimPrecomputed(DailyFortune dailyFortune);
+
+    /**
+     * 차감에 실패한 경우 다시 사전 생성 상태로 되돌리고 결과 목록에서 뺍니다.
+     */
+    void restorePrecomputed(DailyFortune dailyFortune);
 }
@@ -0,0 +1,84 @@
+package dsko.hier.fortune.domain.resultIndexDomain;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.FetchType.LAZY;
+
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import dsko.hier.security.domain.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 사용자별 운세 결과 목록 조회용 인덱스 테이블.
+ * 각 결과 테이블의 TEXT 컬럼을 읽지 않고 (user_id, created_at, result_id) 인덱스만으로 이력을 페이지 단위로 조회합니다.
+ */
+@Entity
+@Table(name = "fortune_result_index",
+        indexes = @Index(name = "idx_fortune_result_index_user_created", columnList = "user_id, created_at, result_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FortuneResultIndex implements Persistable<UUID> {
+
+    // 원본 결과(Face, DailyFortune, DreamAnalysis, TotalFortune)의 ID
+    @Id
+    @Column(name = "result_id")
+    private UUID resultId;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(STRING)
+    @Column(name = "result_type", nullable = false, length = 20)
+    private ResultType resultType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ID를 직접 할당하므로 save 시 merge(추가 SELECT) 대신 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    private FortuneResultIndex(UUID resultId, User user, ResultType resultType, LocalDateTime createdAt) {
+        this.resultId = resultId;
+        this.user = user;
+        this.resultType = resultType;
+        this.createdAt = createdAt;
+    }
+
+    public static FortuneResultIndex of(ResultType resultType, UUID resultId, User user, LocalDateTime createdAt) {
+        return new FortuneResultIndex(resultId, user, resultType, createdAt);
+    }
+
+    @Override
+    public UUID getId() {
+        return resultId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
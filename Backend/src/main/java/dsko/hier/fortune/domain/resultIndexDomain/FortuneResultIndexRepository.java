@@ -0,0 +1,20 @@
+package dsko.hier.fortune.domain.resultIndexDomain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface FortuneResultIndexRepository {
+    FortuneResultIndex save(FortuneResultIndex entity);
+
+    List<FortuneResultIndex> saveAll(List<FortuneResultIndex> entities);
+
+    void deleteById(UUID resultId);
+
+    /**
+     * 최신순(created_at, result_id 내림차순)으로 커서 다음의 결과를 최대 limit 건 조회합니다.
+     * 커서가 null이면 첫 페이지를 조회합니다.
+     */
+    List<FortuneResultIndex> findPageByUserEmail(String userEmail, LocalDateTime cursorCreatedAt, UUID cursorId,
+                                                 int limit);
+}
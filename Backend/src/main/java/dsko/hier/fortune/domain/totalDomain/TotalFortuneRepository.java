@@ -7,6 +7,8 @@ import java.util.UUID;
 public interface TotalFortuneRepository {
     TotalFortune save(TotalFortune totalFortune);
 
+    List<TotalFortune> saveAll(List<TotalFortune> totalFortunes);
+
     Optional<TotalFortune> findByUserEmail(String userEmail);
 
     List<TotalFortune> findAllByUserEmail(String username);
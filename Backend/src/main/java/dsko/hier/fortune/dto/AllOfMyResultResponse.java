@@ -5,7 +5,9 @@ import java.util.UUID;
 import lombok.Builder;
 
 public record AllOfMyResultResponse(
-        List<SimpleResult> results
+        List<SimpleResult> results,
+        String nextCursor, // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        boolean hasNext
 ) {
     @Builder
     public record SimpleResult(
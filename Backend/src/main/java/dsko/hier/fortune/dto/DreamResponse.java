@@ -7,10 +7,12 @@ import dsko.hier.fortune.domain.dreamDomain.Precautions;
 import dsko.hier.fortune.domain.dreamDomain.PsychologicalAnalysis;
 import dsko.hier.fortune.domain.dreamDomain.SpecialMessage;
 import dsko.hier.fortune.domain.dreamDomain.SymbolInterpretation;
+import java.util.UUID;
 import lombok.Builder;
 
 @Builder
 public record DreamResponse(
+        UUID id,
         String summary,
         SymbolInterpretation symbolInterpretation,
         PsychologicalAnalysis psychologicalAnalysis,
@@ -21,6 +23,7 @@ public record DreamResponse(
 ) {
     public static DreamResponse fromEntity(DreamAnalysis dreamAnalysis) {
         return DreamResponse.builder()
+                .id(dreamAnalysis.getId())
                 .summary(dreamAnalysis.getSummary())
                 .symbolInterpretation(dreamAnalysis.getSymbolInterpretation())
                 .psychologicalAnalysis(dreamAnalysis.getPsychologicalAnalysis())
@@ -6,8 +6,10 @@ import dsko.hier.fortune.domain.faceDomain.Face;
 import dsko.hier.fortune.domain.faceDomain.Mouth;
 import dsko.hier.fortune.domain.faceDomain.Nose;
 import dsko.hier.fortune.domain.faceDomain.OverallImpression;
+import java.util.UUID;
 
 public record FaceAnalyzeResponse(
+        UUID id,
         OverallImpression overallImpression,
         Eye eye,
         Nose nose,
@@ -17,6 +19,7 @@ public record FaceAnalyzeResponse(
     public static FaceAnalyzeResponse fromEntity(Face face) {
 
         return new FaceAnalyzeResponse(
+                face.getId(),
                 face.getOverallImpression(),
                 face.getEye(),
                 face.getNose(),
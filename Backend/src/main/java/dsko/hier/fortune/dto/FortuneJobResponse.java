@@ -0,0 +1,31 @@
+package dsko.hier.fortune.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dsko.hier.fortune.application.job.FortuneJob;
+import dsko.hier.fortune.application.job.FortuneJobStatus;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import java.util.UUID;
+
+/**
+ * 비동기 운세 생성 작업 상태 응답 DTO. COMPLETED 상태이면 resultId 로 결과 조회 API(/api/fortune/{type}/{resultId})를 호출합니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FortuneJobResponse(
+        UUID jobId,
+        ResultType resultType,
+        FortuneJobStatus status,
+        UUID resultId,
+        String errorMessage
+) {
+    public static FortuneJobResponse from(FortuneJob job) {
+        synchronized (job) {
+            return new FortuneJobResponse(
+                    job.getId(),
+                    job.getResultType(),
+                    job.getStatus(),
+                    job.getResultId(),
+                    job.getErrorMessage()
+            );
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dsko.hier.fortune.dto;
+
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record FortuneSeriesResponse(
+        RollupGranularity granularity,
+        List<Point> points
+) {
+    public record Point(
+            LocalDateTime bucketStart,
+            String fortuneType,
+            long requestCount,
+            Double avgLatencyMs // 지연 시간이 기록되지 않은 버킷이면 null
+    ) {
+        public static Point of(LocalDateTime bucketStart, StatTotals totals) {
+            Double avgLatency = totals.latencySamples() > 0
+                    ? (double) totals.latencySumMs() / totals.latencySamples()
+                    : null;
+            return new Point(bucketStart, totals.fortuneType(), totals.requestCount(), avgLatency);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dsko.hier.fortune.dto.ai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * 여러 사용자의 운세를 한 번에 요청했을 때의 AI 응답. key 는 요청 시 대상마다 붙인 식별자입니다.
+ */
+public record AIBatchFortuneResponse<T>(
+        @JsonProperty("results") List<Item<T>> results
+) {
+    public record Item<T>(
+            @JsonProperty("key") String key,
+            @JsonProperty("fortune") T fortune
+    ) {
+    }
+}
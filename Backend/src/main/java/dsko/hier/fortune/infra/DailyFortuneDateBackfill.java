@@ -0,0 +1,61 @@
+package dsko.hier.fortune.infra;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * fortune_date 컬럼 추가 이전에 저장된 daily_fortune 행에 created_at 의 날짜를 채워 넣습니다.
+ * 이미 채워진 행은 건드리지 않으므로 매 기동 시 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyFortuneDateBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Integer missing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM daily_fortune WHERE fortune_date IS NULL", Integer.class);
+            if (missing == null || missing == 0) {
+                return;
+            }
+            log.info("fortune_date 가 비어 있는 오늘의 운세 {}건을 채웁니다.", missing);
+            try {
+                jdbcTemplate.update(
+                        "UPDATE daily_fortune SET fortune_date = CAST(created_at AS DATE) WHERE fortune_date IS NULL");
+            } catch (DataIntegrityViolationException e) {
+                // 과거에 같은 날 중복 저장된 행이 있으면 일괄 UPDATE 가 유니크 제약에 걸리므로 한 건씩 처리
+                backfillOneByOne();
+            }
+        } catch (Exception e) {
+            log.error("fortune_date 백필에 실패했습니다.", e);
+        }
+    }
+
+    private void backfillOneByOne() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, CAST(created_at AS DATE) AS fortune_date FROM daily_fortune "
+                        + "WHERE fortune_date IS NULL ORDER BY created_at");
+        int skipped = 0;
+        for (Map<String, Object> row : rows) {
+            try {
+                jdbcTemplate.update("UPDATE daily_fortune SET fortune_date = ? WHERE id = ?",
+                        row.get("fortune_date"), row.get("id"));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 날의 첫 번째 결과만 날짜를 갖고, 나머지 중복 행은 조회 대상에서 제외됩니다.
+                skipped++;
+            }
+        }
+        log.info("fortune_date 백필 완료: {}건, 중복으로 건너뜀 {}건", rows.size() - skipped, skipped);
+    }
+}
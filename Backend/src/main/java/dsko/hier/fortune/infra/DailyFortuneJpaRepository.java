@@ -1,14 +1,27 @@
 package dsko.hier.fortune.infra;
 
 import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DailyFortuneJpaRepository extends JpaRepository<DailyFortune, UUID> {
     Optional<DailyFortune> findByUserEmailAndCreatedAt(String userEmail, LocalDateTime today);
 
     List<DailyFortune> findAllByUserEmail(String username);
+
+    @Query("select distinct d.user.email from DailyFortune d where d.fortuneDate >= :since")
+    List<String> findUserEmailsWithFortuneSince(@Param("since") LocalDate since);
+
+    @Transactional
+    @Modifying
+    @Query("update DailyFortune d set d.precomputed = :to where d.id = :id and d.precomputed = :from")
+    int updatePrecomputed(@Param("id") UUID id, @Param("from") boolean from, @Param("to") boolean to);
 }
@@ -5,7 +5,7 @@ import static dsko.hier.fortune.domain.dailyDomain.QDailyFortune.dailyFortune;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
 import jakarta.persistence.EntityManager;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -20,13 +20,13 @@ public class DailyFortuneQueryDsl {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
-    public Optional<DailyFortune> findByUserEmailAndCreatedAt(String userEmail, LocalDateTime today) {
+    // (user_id, fortune_date) 유니크 인덱스를 타도록 컬럼에 함수를 씌우지 않고 동등 비교
+    public Optional<DailyFortune> findByUserEmailAndFortuneDate(String userEmail, LocalDate fortuneDate) {
         return Optional.ofNullable(queryFactory
                 .selectFrom(dailyFortune)
                 .join(dailyFortune.user)
                 .where(dailyFortune.user.email.eq(userEmail)
-                        .and(dailyFortune.createdAt.dayOfYear().eq(today.getDayOfYear())
-                                .and(dailyFortune.createdAt.year().eq(today.getYear())))
+                        .and(dailyFortune.fortuneDate.eq(fortuneDate))
                 )
                 .fetchOne());
     }
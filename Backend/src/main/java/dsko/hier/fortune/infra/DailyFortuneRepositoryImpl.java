@@ -2,28 +2,49 @@ package dsko.hier.fortune.infra;
 
 import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
 import dsko.hier.fortune.domain.dailyDomain.DailyFortuneRepository;
-import java.time.LocalDateTime;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class DailyFortuneRepositoryImpl implements DailyFortuneRepository {
 
     private final DailyFortuneJpaRepository repository;
+    private final FortuneResultIndexRepository resultIndexRepository;
     private final DailyFortuneQueryDsl dailyFortuneQueryDsl;
 
     @Override
+    @Transactional
     public DailyFortune save(DailyFortune dailyFortune) {
-        return repository.save(dailyFortune);
+        DailyFortune saved = repository.save(dailyFortune);
+        if (!saved.isPrecomputed()) {
+            resultIndexRepository.save(toIndex(saved));
+        }
+        return saved;
     }
 
     @Override
-    public Optional<DailyFortune> findByFortuneDateAndUserEmail(String userEmail, LocalDateTime today) {
-        return dailyFortuneQueryDsl.findByUserEmailAndCreatedAt(userEmail, today);
+    @Transactional
+    public List<DailyFortune> saveAll(List<DailyFortune> dailyFortunes) {
+        List<DailyFortune> saved = repository.saveAll(dailyFortunes);
+        resultIndexRepository.saveAll(saved.stream()
+                .filter(dailyFortune -> !dailyFortune.isPrecomputed())
+                .map(this::toIndex)
+                .toList());
+        return saved;
+    }
+
+    @Override
+    public Optional<DailyFortune> findByFortuneDateAndUserEmail(String userEmail, LocalDate fortuneDate) {
+        return dailyFortuneQueryDsl.findByUserEmailAndFortuneDate(userEmail, fortuneDate);
     }
 
     @Override
@@ -35,4 +56,32 @@ public class DailyFortuneRepositoryImpl implements DailyFortuneRepository {
     public Optional<DailyFortune> findById(UUID resultId) {
         return repository.findById(resultId);
     }
+
+    @Override
+    public List<String> findUserEmailsWithFortuneSince(LocalDate since) {
+        return repository.findUserEmailsWithFortuneSince(since);
+    }
+
+    // 사전 생성분은 사용자가 받아 간(차감된) 시점에 결과 목록에 추가
+    @Override
+    @Transactional
+    public boolean claimPrecomputed(DailyFortune dailyFortune) {
+        if (repository.updatePrecomputed(dailyFortune.getId(), true, false) != 1) {
+            return false;
+        }
+        resultIndexRepository.save(toIndex(dailyFortune));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void restorePrecomputed(DailyFortune dailyFortune) {
+        resultIndexRepository.deleteById(dailyFortune.getId());
+        repository.updatePrecomputed(dailyFortune.getId(), false, true);
+    }
+
+    // 결과 목록 조회용 인덱스 행 (같은 트랜잭션에서 함께 저장). 사전 생성분은 전달 전까지 목록에 보이지 않도록 제외
+    private FortuneResultIndex toIndex(DailyFortune saved) {
+        return FortuneResultIndex.of(ResultType.DAILY_FORTUNE, saved.getId(), saved.getUser(), saved.getCreatedAt());
+    }
 }
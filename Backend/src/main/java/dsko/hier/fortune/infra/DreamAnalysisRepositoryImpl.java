@@ -2,21 +2,29 @@ package dsko.hier.fortune.infra;
 
 import dsko.hier.fortune.domain.dreamDomain.DreamAnalysis;
 import dsko.hier.fortune.domain.dreamDomain.DreamAnalysisRepository;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class DreamAnalysisRepositoryImpl implements DreamAnalysisRepository {
 
     private final DreamAnalysisJpaRepository repository;
+    private final FortuneResultIndexRepository resultIndexRepository;
 
     @Override
+    @Transactional
     public DreamAnalysis save(DreamAnalysis dreamAnalysis) {
-        return repository.save(dreamAnalysis);
+        DreamAnalysis saved = repository.save(dreamAnalysis);
+        resultIndexRepository.save(toIndex(saved));
+        return saved;
     }
 
     @Override
@@ -28,4 +36,9 @@ public class DreamAnalysisRepositoryImpl implements DreamAnalysisRepository {
     public Optional<DreamAnalysis> findById(UUID resultId) {
         return repository.findById(resultId);
     }
+
+    // 결과 목록 조회용 인덱스 행 (같은 트랜잭션에서 함께 저장)
+    private FortuneResultIndex toIndex(DreamAnalysis saved) {
+        return FortuneResultIndex.of(ResultType.DREAM, saved.getId(), saved.getUser(), saved.getCreatedAt());
+    }
 }
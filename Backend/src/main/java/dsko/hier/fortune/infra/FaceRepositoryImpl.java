@@ -2,12 +2,16 @@ package dsko.hier.fortune.infra;
 
 import dsko.hier.fortune.domain.faceDomain.Face;
 import dsko.hier.fortune.domain.faceDomain.FaceRepository;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Repository
@@ -15,10 +19,14 @@ import org.springframework.stereotype.Repository;
 public class FaceRepositoryImpl implements FaceRepository {
 
     private final FaceJpaRepository repository;
+    private final FortuneResultIndexRepository resultIndexRepository;
 
     @Override
+    @Transactional
     public Face save(Face entity) {
-        return repository.save(entity);
+        Face saved = repository.save(entity);
+        resultIndexRepository.save(toIndex(saved));
+        return saved;
     }
 
     @Override
@@ -31,4 +39,8 @@ public class FaceRepositoryImpl implements FaceRepository {
         return repository.findById(resultId);
     }
 
+    // 결과 목록 조회용 인덱스 행 (같은 트랜잭션에서 함께 저장)
+    private FortuneResultIndex toIndex(Face saved) {
+        return FortuneResultIndex.of(ResultType.FACE, saved.getId(), saved.getUser(), saved.getCreatedAt());
+    }
 }
@@ -0,0 +1,54 @@
+package dsko.hier.fortune.infra;
+
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * fortune_result_index 도입 이전에 저장된 결과들을 인덱스 테이블에 채워 넣습니다.
+ * 이미 인덱싱된 결과는 건너뛰므로 매 기동 시 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FortuneResultIndexBackfill {
+
+    private static final Map<ResultType, String> RESULT_TABLES = Map.of(
+            ResultType.FACE, "face",
+            ResultType.DAILY_FORTUNE, "daily_fortune",
+            ResultType.DREAM, "dream_analysis",
+            ResultType.LIFE_LONG, "total_fortune"
+    );
+
+    // 아직 전달되지 않은 사전 생성 운세는 받아 갈 때 인덱싱되므로 제외
+    private static final Map<ResultType, String> EXTRA_CONDITIONS = Map.of(
+            ResultType.DAILY_FORTUNE, "AND r.precomputed = false "
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        RESULT_TABLES.forEach((type, table) -> {
+            try {
+                int inserted = jdbcTemplate.update(
+                        "INSERT INTO fortune_result_index (result_id, user_id, result_type, created_at) "
+                                + "SELECT r.id, r.user_id, ?, r.created_at FROM " + table + " r "
+                                + "WHERE r.user_id IS NOT NULL AND r.created_at IS NOT NULL "
+                                + EXTRA_CONDITIONS.getOrDefault(type, "")
+                                + "AND NOT EXISTS (SELECT 1 FROM fortune_result_index i WHERE i.result_id = r.id)",
+                        type.name());
+                if (inserted > 0) {
+                    log.info("결과 인덱스 백필: {} {}건", type, inserted);
+                }
+            } catch (Exception e) {
+                log.error("결과 인덱스 백필에 실패했습니다. type={}", type, e);
+            }
+        });
+    }
+}
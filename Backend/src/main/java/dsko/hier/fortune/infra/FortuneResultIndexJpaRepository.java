@@ -0,0 +1,8 @@
+package dsko.hier.fortune.infra;
+
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FortuneResultIndexJpaRepository extends JpaRepository<FortuneResultIndex, UUID> {
+}
@@ -0,0 +1,44 @@
+package dsko.hier.fortune.infra;
+
+import static dsko.hier.fortune.domain.resultIndexDomain.QFortuneResultIndex.fortuneResultIndex;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FortuneResultIndexQueryDsl {
+
+    private final JPAQueryFactory queryFactory;
+
+    public FortuneResultIndexQueryDsl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    // OFFSET 없이 마지막으로 본 (created_at, result_id) 이후만 읽는 키셋 페이지네이션
+    public List<FortuneResultIndex> findPageByUserEmail(String userEmail, LocalDateTime cursorCreatedAt, UUID cursorId,
+                                                        int limit) {
+        return queryFactory
+                .selectFrom(fortuneResultIndex)
+                .join(fortuneResultIndex.user)
+                .where(fortuneResultIndex.user.email.eq(userEmail),
+                        afterCursor(cursorCreatedAt, cursorId))
+                .orderBy(fortuneResultIndex.createdAt.desc(), fortuneResultIndex.resultId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, UUID cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return fortuneResultIndex.createdAt.lt(cursorCreatedAt)
+                .or(fortuneResultIndex.createdAt.eq(cursorCreatedAt)
+                        .and(fortuneResultIndex.resultId.lt(cursorId)));
+    }
+}
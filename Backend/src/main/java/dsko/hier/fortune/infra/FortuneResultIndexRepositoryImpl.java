@@ -0,0 +1,38 @@
+package dsko.hier.fortune.infra;
+
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FortuneResultIndexRepositoryImpl implements FortuneResultIndexRepository {
+
+    private final FortuneResultIndexJpaRepository repository;
+    private final FortuneResultIndexQueryDsl queryDsl;
+
+    @Override
+    public FortuneResultIndex save(FortuneResultIndex entity) {
+        return repository.save(entity);
+    }
+
+    @Override
+    public List<FortuneResultIndex> saveAll(List<FortuneResultIndex> entities) {
+        return repository.saveAll(entities);
+    }
+
+    @Override
+    public void deleteById(UUID resultId) {
+        repository.deleteById(resultId);
+    }
+
+    @Override
+    public List<FortuneResultIndex> findPageByUserEmail(String userEmail, LocalDateTime cursorCreatedAt,
+                                                        UUID cursorId, int limit) {
+        return queryDsl.findPageByUserEmail(userEmail, cursorCreatedAt, cursorId, limit);
+    }
+}
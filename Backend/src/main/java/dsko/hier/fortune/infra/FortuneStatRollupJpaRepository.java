@@ -0,0 +1,34 @@
+package dsko.hier.fortune.infra;
+
+import dsko.hier.fortune.domain.analyticsDomain.FortuneStatRollup;
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FortuneStatRollupJpaRepository extends JpaRepository<FortuneStatRollup, UUID> {
+
+    List<FortuneStatRollup> findAllByGranularityAndBucketStart(RollupGranularity granularity,
+                                                               LocalDateTime bucketStart);
+
+    List<FortuneStatRollup> findAllByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    @Query("select new dsko.hier.fortune.domain.analyticsDomain.StatTotals("
+            + "r.fortuneType, sum(r.requestCount), sum(r.latencySumMs), sum(r.latencySamples)) "
+            + "from FortuneStatRollup r "
+            + "where r.granularity = dsko.hier.fortune.domain.analyticsDomain.RollupGranularity.HOUR "
+            + "and r.bucketStart >= :from and r.bucketStart < :to "
+            + "group by r.fortuneType")
+    List<StatTotals> sumHourly(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("delete from FortuneStatRollup r where r.granularity = :granularity and r.bucketStart < :before")
+    int deleteByGranularityAndBucketStartBefore(@Param("granularity") RollupGranularity granularity,
+                                                @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,54 @@
+package dsko.hier.fortune.infra;
+
+import dsko.hier.fortune.domain.analyticsDomain.FortuneStatRollup;
+import dsko.hier.fortune.domain.analyticsDomain.FortuneStatRollupRepository;
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class FortuneStatRollupRepositoryImpl implements FortuneStatRollupRepository {
+
+    private final FortuneStatRollupJpaRepository repository;
+
+    @Override
+    @Transactional
+    public void overwrite(RollupGranularity granularity, LocalDateTime bucketStart, Collection<StatTotals> totals) {
+        Map<String, FortuneStatRollup> existing = repository.findAllByGranularityAndBucketStart(granularity, bucketStart)
+                .stream()
+                .collect(Collectors.toMap(FortuneStatRollup::getFortuneType, Function.identity()));
+        for (StatTotals total : totals) {
+            FortuneStatRollup rollup = existing.get(total.fortuneType());
+            if (rollup == null) {
+                rollup = repository.save(FortuneStatRollup.of(granularity, bucketStart, total.fortuneType()));
+            }
+            rollup.overwrite(total);
+        }
+    }
+
+    @Override
+    public List<StatTotals> sumHourly(LocalDateTime from, LocalDateTime to) {
+        return repository.sumHourly(from, to);
+    }
+
+    @Override
+    public List<FortuneStatRollup> findRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return repository.findAllByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+                granularity, from, to);
+    }
+
+    @Override
+    @Transactional
+    public int deleteBefore(RollupGranularity granularity, LocalDateTime before) {
+        return repository.deleteByGranularityAndBucketStartBefore(granularity, before);
+    }
+}
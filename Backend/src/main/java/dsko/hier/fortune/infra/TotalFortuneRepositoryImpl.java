@@ -2,21 +2,37 @@ package dsko.hier.fortune.infra;
 
 import dsko.hier.fortune.domain.totalDomain.TotalFortune;
 import dsko.hier.fortune.domain.totalDomain.TotalFortuneRepository;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class TotalFortuneRepositoryImpl implements TotalFortuneRepository {
 
     private final TotalFortuneJpaRepository repository;
+    private final FortuneResultIndexRepository resultIndexRepository;
 
     @Override
+    @Transactional
     public TotalFortune save(TotalFortune totalFortune) {
-        return repository.save(totalFortune);
+        TotalFortune saved = repository.save(totalFortune);
+        resultIndexRepository.save(toIndex(saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<TotalFortune> saveAll(List<TotalFortune> totalFortunes) {
+        List<TotalFortune> saved = repository.saveAll(totalFortunes);
+        resultIndexRepository.saveAll(saved.stream().map(this::toIndex).toList());
+        return saved;
     }
 
     @Override
@@ -33,4 +49,9 @@ public class TotalFortuneRepositoryImpl implements TotalFortuneRepository {
     public Optional<TotalFortune> findById(UUID resultId) {
         return repository.findById(resultId);
     }
+
+    // 결과 목록 조회용 인덱스 행 (같은 트랜잭션에서 함께 저장)
+    private FortuneResultIndex toIndex(TotalFortune saved) {
+        return FortuneResultIndex.of(ResultType.LIFE_LONG, saved.getId(), saved.getUser(), saved.getCreatedAt());
+    }
 }
@@ -1,6 +1,9 @@
 package dsko.hier.fortune.presentation;
 
 import dsko.hier.fortune.application.FortuneAnalyzeService;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
+import dsko.hier.fortune.application.stream.FortuneStreamService;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import dsko.hier.fortune.dto.DailyFortuneResponse;
 import dsko.hier.fortune.dto.DreamRequestDto;
 import dsko.hier.fortune.dto.DreamResponse;
@@ -9,9 +12,16 @@ import dsko.hier.fortune.dto.FaceAnalyzeResponse;
 import dsko.hier.fortune.dto.TotalFortuneResponse;
 import dsko.hier.global.response.APIResponse;
 import dsko.hier.security.application.CustomUserDetails;
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,13 +30,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/fortune")
 @RequiredArgsConstructor
 public class FortuneController {
+    private static final String RESULT_VERSION = "v1";
+    private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
+
     private final FortuneAnalyzeService service;
+    private final FortuneStreamService streamService;
+    private final FortuneResultCache resultCache;
 
     @PostMapping("/face")
     public APIResponse<FaceAnalyzeResponse> analyzeFace(
@@ -46,10 +63,23 @@ public class FortuneController {
         return APIResponse.success(dreamResponseFromAI);
     }
 
+    @PostMapping(value = "/dream/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDreamInterpretation(
+            @Validated @RequestBody DreamRequestDto req,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return streamService.streamDreamInterpretation(userDetails.getUsername(), req);
+    }
+
+    // 오늘의 운세는 자정까지만 유효하므로 사용자 캐시 만료를 자정에 맞추고, 같은 결과면 304로 응답합니다.
     @GetMapping("/daily")
-    public APIResponse<DailyFortuneResponse> getTodaysFortune(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<APIResponse<DailyFortuneResponse>> getTodaysFortune(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         DailyFortuneResponse response = service.getDailyFortuneOfUser(userDetails.getUsername());
-        return APIResponse.success(response);
+        return ResponseEntity.ok()
+                .cacheControl(untilMidnight())
+                .eTag(resultETag(ResultType.DAILY_FORTUNE, response.id()))
+                .body(APIResponse.success(response));
     }
 
     @GetMapping("/lifelong")
@@ -59,35 +89,66 @@ public class FortuneController {
         return APIResponse.success(lieLongFortuneFromAI);
     }
 
-    @GetMapping("/face/{resultId}")
-    public APIResponse<FaceAnalyzeResponse> getFaceResultById(
-            @Validated @PathVariable UUID resultId
+    @GetMapping(value = "/lifelong/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLifelongFortune(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return streamService.streamTotalFortune(userDetails.getUsername());
+    }
+
+    // 저장된 결과는 바뀌지 않으므로 ID 기반 ETag 가 같으면 본문 없이 304로, 아니면 캐시된 응답을 그대로 내려줍니다.
+    @GetMapping(value = "/face/{resultId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getFaceResultById(
+            @Validated @PathVariable UUID resultId,
+            WebRequest webRequest
     ) {
-        FaceAnalyzeResponse response = service.getFaceResultById(resultId);
-        return APIResponse.success(response);
+        return immutableResult(ResultType.FACE, resultId, webRequest, () -> service.getFaceResultById(resultId));
     }
 
-    @GetMapping("/dream/{resultId}")
-    public APIResponse<DreamResponse> getDreamResultById(
-            @Validated @PathVariable UUID resultId
+    @GetMapping(value = "/dream/{resultId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getDreamResultById(
+            @Validated @PathVariable UUID resultId,
+            WebRequest webRequest
     ) {
-        DreamResponse response = service.getDreamResultById(resultId);
-        return APIResponse.success(response);
+        return immutableResult(ResultType.DREAM, resultId, webRequest, () -> service.getDreamResultById(resultId));
     }
 
-    @GetMapping("/daily/{resultId}")
-    public APIResponse<DailyFortuneResponse> getDailyResultById(
-            @Validated @PathVariable UUID resultId
+    @GetMapping(value = "/daily/{resultId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getDailyResultById(
+            @Validated @PathVariable UUID resultId,
+            WebRequest webRequest
     ) {
-        DailyFortuneResponse response = service.getDailyResultById(resultId);
-        return APIResponse.success(response);
+        return immutableResult(ResultType.DAILY_FORTUNE, resultId, webRequest, () -> service.getDailyResultById(resultId));
     }
 
-    @GetMapping("/total/{resultId}")
-    public APIResponse<TotalFortuneResponse> getTotalResultById(
-            @Validated @PathVariable UUID resultId
+    @GetMapping(value = "/total/{resultId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTotalResultById(
+            @Validated @PathVariable UUID resultId,
+            WebRequest webRequest
     ) {
-        TotalFortuneResponse response = service.getTotalResultById(resultId);
-        return APIResponse.success(response);
+        return immutableResult(ResultType.LIFE_LONG, resultId, webRequest, () -> service.getTotalResultById(resultId));
+    }
+
+    private ResponseEntity<byte[]> immutableResult(ResultType type, UUID resultId, WebRequest webRequest,
+                                                   Supplier<?> loader) {
+        String eTag = resultETag(type, resultId);
+        // 결과는 바뀌지 않으므로 브라우저는 재검증 없이 재사용하되, 인증이 필요한 응답이므로 공유 캐시(CDN/프록시)에는 저장하지 않습니다.
+        CacheControl cacheControl = CacheControl.maxAge(IMMUTABLE_MAX_AGE).cachePrivate().immutable();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(eTag)
+                .body(resultCache.getOrLoad(type, resultId, loader));
+    }
+
+    // 응답 형식이 바뀌면 RESULT_VERSION 을 올려 기존 캐시를 무효화합니다.
+    private static String resultETag(ResultType type, UUID resultId) {
+        return "\"" + RESULT_VERSION + "-" + type.name() + "-" + resultId + "\"";
+    }
+
+    private static CacheControl untilMidnight() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return CacheControl.maxAge(Duration.between(now, midnight)).cachePrivate().mustRevalidate();
     }
 }
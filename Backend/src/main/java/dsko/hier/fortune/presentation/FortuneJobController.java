@@ -0,0 +1,77 @@
+package dsko.hier.fortune.presentation;
+
+import dsko.hier.fortune.application.job.FortuneJobService;
+import dsko.hier.fortune.dto.DreamRequestDto;
+import dsko.hier.fortune.dto.FaceAnalyzeRequest;
+import dsko.hier.fortune.dto.FortuneJobResponse;
+import dsko.hier.global.response.APIResponse;
+import dsko.hier.security.application.CustomUserDetails;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 비동기 운세 생성 API. 작업 ID를 즉시 반환하고, 완료된 결과는 기존 결과 조회 API로 가져옵니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/fortune/jobs")
+@RequiredArgsConstructor
+public class FortuneJobController {
+
+    private final FortuneJobService jobService;
+
+    @PostMapping("/face")
+    public APIResponse<FortuneJobResponse> submitFaceAnalyze(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Validated @RequestBody FaceAnalyzeRequest request
+    ) {
+        return APIResponse.success(jobService.submitFaceAnalyze(userDetails.getUsername(), request));
+    }
+
+    @PostMapping("/dream")
+    public APIResponse<FortuneJobResponse> submitDreamInterpretation(
+            @Validated @RequestBody DreamRequestDto req,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return APIResponse.success(jobService.submitDreamInterpretation(userDetails.getUsername(), req));
+    }
+
+    @PostMapping("/daily")
+    public APIResponse<FortuneJobResponse> submitDailyFortune(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return APIResponse.success(jobService.submitDailyFortune(userDetails.getUsername()));
+    }
+
+    @PostMapping("/lifelong")
+    public APIResponse<FortuneJobResponse> submitLifelongFortune(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return APIResponse.success(jobService.submitTotalFortune(userDetails.getUsername()));
+    }
+
+    @GetMapping("/{jobId}")
+    public APIResponse<FortuneJobResponse> getJob(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return APIResponse.success(jobService.getJob(jobId, userDetails.getUsername()));
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeJob(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return jobService.subscribe(jobId, userDetails.getUsername());
+    }
+}
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -28,11 +29,13 @@ public class StatisticsController {
 
     @GetMapping("/findAll")
     public APIResponse<AllOfMyResultResponse> findAllOfMyResult(
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
 
         return APIResponse.success(
-                service.findAllOfMyResult(userDetails.getUsername())
+                service.findAllOfMyResult(userDetails.getUsername(), cursor, size)
         );
     }
 
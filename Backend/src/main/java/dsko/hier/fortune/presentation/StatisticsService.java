@@ -1,17 +1,17 @@
 package dsko.hier.fortune.presentation;
 
-import dsko.hier.fortune.domain.dailyDomain.DailyFortuneRepository;
-import dsko.hier.fortune.domain.dreamDomain.DreamAnalysisRepository;
-import dsko.hier.fortune.domain.faceDomain.FaceRepository;
-import dsko.hier.fortune.domain.totalDomain.TotalFortuneRepository;
+import dsko.hier.fortune.application.StatisticsSnapshotService;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
 import dsko.hier.fortune.dto.AllOfMyResultResponse;
-import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
 import dsko.hier.fortune.dto.AllOfMyResultResponse.SimpleResult;
 import dsko.hier.fortune.dto.Statistics;
-import dsko.hier.global.redis.RedisHashService;
-import dsko.hier.global.redis.RedisUserCountService;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,93 +19,71 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final RedisHashService redisHashService;
-    private final RedisUserCountService redisUserCountService;
-    private final FaceRepository faceRepository;
-    private final DailyFortuneRepository dailyFortuneRepository;
-    private final DreamAnalysisRepository dreamRepository;
-    private final TotalFortuneRepository totalFortuneRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "_";
 
+    private final StatisticsSnapshotService statisticsSnapshotService;
+    private final FortuneResultIndexRepository resultIndexRepository;
+
+    // 요청마다 Redis 를 조회하지 않고 주기적으로 갱신되는 스냅샷을 반환
     public Statistics getStatistics() {
-        // 1. Redis에서 사용자 수 가져오기
-        int totalUserCount = redisUserCountService.getValue();
+        return statisticsSnapshotService.getStatistics();
+    }
 
-        // 2. Redis에서 운세 통계 정보 가져오기
-        Integer dailyFortuneCnt = (Integer) redisHashService.getAllFortuneCounts()
-                .get(RedisHashService.DAILY_FORTUNE_TYPE);
-        if (dailyFortuneCnt == null) {
-            dailyFortuneCnt = 0;
+    @Transactional(readOnly = true)
+    public AllOfMyResultResponse findAllOfMyResult(String username, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime cursorCreatedAt = null;
+        UUID cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeCursor(cursor);
+            try {
+                cursorCreatedAt = LocalDateTime.parse(decoded[0]);
+                cursorId = UUID.fromString(decoded[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
         }
 
-        Integer lifeLongFortuneCnt = (Integer) redisHashService.getAllFortuneCounts()
-                .get(RedisHashService.LIFE_LONG_FORTUNE_TYPE);
-        if (lifeLongFortuneCnt == null) {
-            lifeLongFortuneCnt = 0;
-        }
+        // 1. 인덱스 테이블에서 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<FortuneResultIndex> rows = resultIndexRepository.findPageByUserEmail(
+                username, cursorCreatedAt, cursorId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<FortuneResultIndex> page = hasNext ? rows.subList(0, pageSize) : rows;
 
-        Integer faceFortuneCnt = (Integer) redisHashService.getAllFortuneCounts()
-                .get(RedisHashService.FACE_TYPE);
-        if (faceFortuneCnt == null) {
-            faceFortuneCnt = 0;
-        }
+        List<SimpleResult> result = page.stream()
+                .map(row -> new SimpleResult(row.getResultType(), row.getResultId(), row.getCreatedAt().toString()))
+                .toList();
 
-        Integer dreamFortuneCnt = (Integer) redisHashService.getAllFortuneCounts()
-                .get(RedisHashService.DREAM_TYPE);
-        if (dreamFortuneCnt == null) {
-            dreamFortuneCnt = 0;
+        // 2. 마지막 행 기준으로 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext) {
+            FortuneResultIndex last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getResultId());
         }
 
-        // 3. Statistics DTO 생성
-        return Statistics.builder()
-                .totalUsers(totalUserCount)
-                .dailyFortuneResultCount(dailyFortuneCnt)
-                .lifeLongResultCount(lifeLongFortuneCnt)
-                .faceResultCount(faceFortuneCnt)
-                .dreamInterpretationResultCount(dreamFortuneCnt)
-                .build();
+        // 반환
+        return new AllOfMyResultResponse(result, nextCursor, hasNext);
     }
 
-    public AllOfMyResultResponse findAllOfMyResult(String username) {
-        List<SimpleResult> result = new ArrayList<>();
-        // 1. 각 리포지토리에서 사용자 결과 가져오기
-        faceRepository.findAllByUserEmail(username)
-                .forEach(
-                        face -> result.add(new SimpleResult(
-                                ResultType.FACE,
-                                face.getId(),
-                                face.getCreatedAt().toString()
-                        ))
-                );
-        dailyFortuneRepository.findAllByUserEmail(username)
-                .forEach(
-                        dailyFortune -> result.add(new SimpleResult(
-                                ResultType.DAILY_FORTUNE,
-                                dailyFortune.getId(),
-                                dailyFortune.getCreatedAt().toString()
-                        ))
-                );
-        dreamRepository.findAllByUserEmail(username)
-                .forEach(
-                        dreamAnalysis -> result.add(new SimpleResult(
-                                ResultType.DREAM,
-                                dreamAnalysis.getId(),
-                                dreamAnalysis.getCreatedAt().toString()
-                        ))
-                );
-        totalFortuneRepository.findAllByUserEmail(username)
-                .forEach(
-                        totalFortune -> result.add(new SimpleResult(
-                                ResultType.LIFE_LONG,
-                                totalFortune.getId(),
-                                totalFortune.getCreatedAt().toString()
-                        ))
-                );
+    private static String encodeCursor(LocalDateTime createdAt, UUID resultId) {
+        String raw = createdAt + CURSOR_DELIMITER + resultId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-        // 반환
-        return new AllOfMyResultResponse(result);
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(CURSOR_DELIMITER, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package dsko.hier.global.config;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AIConfig {
+
+    /**
+     * 운세 생성에 공통으로 사용하는 ChatClient. 요청마다 새로 만들지 않고 재사용합니다.
+     */
+    @Bean
+    public ChatClient fortuneChatClient(ChatModel chatModel) {
+        return ChatClient.builder(chatModel).build();
+    }
+}
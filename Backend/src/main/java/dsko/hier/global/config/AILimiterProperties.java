@@ -0,0 +1,60 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.ai-limiter")
+public class AILimiterProperties {
+    /**
+     * 시작 시 전체 AI 동시 호출 한도
+     */
+    private int initialLimit = 10;
+
+    /**
+     * 한도를 줄이더라도 유지할 최소값
+     */
+    private int minLimit = 2;
+
+    /**
+     * 한도를 늘리더라도 넘지 않을 최대값
+     */
+    private int maxLimit = 50;
+
+    /**
+     * 이 시간보다 오래 걸린 호출은 과부하 신호로 보고 한도를 줄입니다.
+     */
+    private Duration targetLatency = Duration.ofSeconds(20);
+
+    /**
+     * 운세 타입별 목표 지연. 응답이 긴 타입(평생 운세, 해몽 등)이 전체 한도를 끌어내리지 않도록 타입마다 따로 둡니다. 없는 타입은 targetLatency 를 사용합니다.
+     */
+    private Map<String, Duration> targetLatencyByType = new HashMap<>();
+
+    /**
+     * 과부하 시 한도에 곱하는 비율 (multiplicative decrease)
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * 한도가 찼을 때 대기할 수 있는 요청 수. 초과하면 바로 429 응답
+     */
+    private int maxQueue = 50;
+
+    /**
+     * 대기 요청이 자리를 기다리는 최대 시간
+     */
+    private Duration maxWait = Duration.ofSeconds(3);
+
+    /**
+     * 운세 타입별 최대 동시 호출 수(bulkhead). 없는 타입은 전체 한도만 적용됩니다.
+     */
+    private Map<String, Integer> bulkhead = new HashMap<>();
+}
@@ -0,0 +1,34 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.ai-cache")
+public class AIResponseCacheProperties {
+    /**
+     * 서버 로컬 캐시에 보관할 최대 응답 수
+     */
+    private long localMaximumSize = 10_000;
+
+    /**
+     * 로컬 캐시 보관 시간의 상한. Redis 보다 짧게 두어 여러 서버 간 차이를 줄입니다.
+     */
+    private Duration localMaxTtl = Duration.ofHours(1);
+
+    /**
+     * 운세 타입(RedisHashService 의 타입 키)별 캐시 보관 시간. 없는 타입은 캐시하지 않습니다.
+     */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    public Duration getTtl(String type) {
+        return ttl.getOrDefault(type, Duration.ZERO);
+    }
+}
@@ -0,0 +1,33 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.analytics")
+public class AnalyticsProperties {
+    /**
+     * Redis 분 단위 버킷 보관 시간. 압축기가 이 시간 이상 멈추면 그 구간의 데이터는 집계되지 않습니다.
+     */
+    private Duration minuteRetention = Duration.ofHours(48);
+
+    /**
+     * MySQL 시간 단위 집계 보관 기간
+     */
+    private Duration hourlyRetention = Duration.ofDays(90);
+
+    /**
+     * MySQL 일 단위 집계 보관 기간
+     */
+    private Duration dailyRetention = Duration.ofDays(730);
+
+    /**
+     * 분 단위 조회 시 한 번에 반환할 수 있는 최대 버킷 수
+     */
+    private int maxMinutePoints = 1440;
+}
@@ -0,0 +1,70 @@
+package dsko.hier.global.config;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final FortuneJobProperties properties;
+    private final VirtualThreadProperties virtualThreadProperties;
+
+    /**
+     * 운세 생성(AI 호출) 전용 실행기. 큐가 가득 차면 TaskRejectedException 이 발생합니다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor fortuneTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("fortune-job-");
+        executor.setTaskDecorator(mdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드의 운세 생성 실행기. 작업마다 가상 스레드를 만들고, 동시 실행 수가 한도에 도달하면 TaskRejectedException 이 발생합니다.
+     */
+    @Bean(name = "fortuneTaskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualFortuneTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fortune-vjob-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(virtualThreadProperties.getConcurrencyLimit());
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskDecorator(mdcTaskDecorator());
+        executor.setTaskTerminationTimeout(properties.getSseTimeoutSeconds() * 1000);
+        return executor;
+    }
+
+    // 요청 스레드의 traceId 등 MDC 정보를 작업 스레드로 전달
+    private TaskDecorator mdcTaskDecorator() {
+        return runnable -> {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            return () -> {
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+}
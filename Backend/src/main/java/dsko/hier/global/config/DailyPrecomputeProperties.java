@@ -0,0 +1,42 @@
+package dsko.hier.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.daily-precompute")
+public class DailyPrecomputeProperties {
+    /**
+     * 오늘의 운세 사전 생성 배치 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최근 며칠 안에 오늘의 운세를 조회한 사용자를 활성 사용자로 볼지
+     */
+    private int activeDays = 7;
+
+    /**
+     * 동시에 생성할 사용자 수 (OpenAI 요청 한도를 넘지 않도록 제한)
+     */
+    private int concurrency = 4;
+
+    /**
+     * 한 번의 AI 요청에 묶어 보낼 사용자 수. 1 이면 사용자마다 따로 요청합니다.
+     */
+    private int batchSize = 5;
+
+    /**
+     * 한 사용자에 대해 실패를 허용하는 횟수. 초과하면 그날은 더 이상 시도하지 않고 조회 시점 생성에 맡깁니다.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 1회 실행 최대 시간(분). 초과 시 남은 사용자는 다음 실행에서 이어서 처리합니다.
+     */
+    private long maxDurationMinutes = 50;
+}
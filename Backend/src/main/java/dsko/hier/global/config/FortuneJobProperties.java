@@ -0,0 +1,37 @@
+package dsko.hier.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.job")
+public class FortuneJobProperties {
+    /**
+     * AI 생성 작업을 처리하는 기본 스레드 수
+     */
+    private int corePoolSize = 8;
+
+    /**
+     * AI 생성 작업을 처리하는 최대 스레드 수
+     */
+    private int maxPoolSize = 16;
+
+    /**
+     * 실행 대기 중인 작업의 최대 개수 (초과 시 429 응답)
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 완료된 작업 정보를 메모리에 보관하는 시간(분)
+     */
+    private long resultRetentionMinutes = 30;
+
+    /**
+     * SSE 연결 최대 유지 시간(초)
+     */
+    private long sseTimeoutSeconds = 180;
+}
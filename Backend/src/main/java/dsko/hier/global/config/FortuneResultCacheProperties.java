@@ -0,0 +1,28 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.result-cache")
+public class FortuneResultCacheProperties {
+    /**
+     * 서버 로컬 캐시에 보관할 직렬화된 응답의 최대 총 크기(바이트)
+     */
+    private long localMaximumBytes = 64L * 1024 * 1024;
+
+    /**
+     * 로컬 캐시 보관 시간
+     */
+    private Duration localTtl = Duration.ofHours(1);
+
+    /**
+     * Redis 보관 시간. 결과는 저장 후 바뀌지 않으므로 조회 빈도에 맞춰 길게 둡니다.
+     */
+    private Duration redisTtl = Duration.ofDays(7);
+}
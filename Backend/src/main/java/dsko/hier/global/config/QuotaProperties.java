@@ -0,0 +1,28 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.quota")
+public class QuotaProperties {
+    /**
+     * 마지막 사용 후 Redis 에 횟수를 보관하는 시간. 만료된 사용자는 다음 요청 때 MySQL 에서 다시 읽어옵니다.
+     */
+    private Duration keyTtl = Duration.ofDays(7);
+
+    /**
+     * 변경된 횟수를 MySQL 에 반영하는 주기
+     */
+    private Duration writeBackInterval = Duration.ofSeconds(10);
+
+    /**
+     * 한 번에 MySQL 에 반영할 최대 사용자 수
+     */
+    private int writeBackBatchSize = 500;
+}
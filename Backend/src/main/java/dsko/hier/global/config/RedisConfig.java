@@ -1,31 +1,58 @@
 package dsko.hier.global.config;
 
+import dsko.hier.global.redis.LongRedisSerializer;
+import io.lettuce.core.metrics.MicrometerOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * 용도별 RedisTemplate.
+ * <ul>
+ *     <li>토큰 등 문자열: 자동 구성되는 StringRedisTemplate</li>
+ *     <li>카운터: {@link #counterRedisTemplate} (숫자 문자열, INCR/HINCRBY 와 같은 형식)</li>
+ * </ul>
+ * 여러 명령은 {@link dsko.hier.global.redis.RedisPipelineExecutor} 로 한 번에 보내고, 커넥션 풀은 spring.data.redis.lettuce.pool 로
+ * 설정합니다.
+ */
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<?, ?> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        RedisTemplate<?, ?> template = new RedisTemplate<>();
+    public RedisTemplate<String, Long> counterRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, Long> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
-        template.setDefaultSerializer(serializer);
-
-        // Key와 Value를 직렬화하는 방식을 설정합니다.
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(serializer);
-
-        // Hash Key와 Value도 직렬화 방식을 설정합니다.
-        template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(serializer);
-
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(LongRedisSerializer.INSTANCE);
+        template.setHashKeySerializer(StringRedisSerializer.UTF_8);
+        template.setHashValueSerializer(LongRedisSerializer.INSTANCE);
         template.afterPropertiesSet();
         return template;
     }
+
+    // pub/sub 구독용 컨테이너. 리스너가 등록될 때 구독 연결을 엽니다.
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * Lettuce 명령별 지연 시간 측정 옵션. LettuceMetricsAutoConfiguration 이 기본값(히스토그램 없음) 대신 이 설정으로 측정합니다.
+     */
+    @Bean
+    public MicrometerOptions lettuceMicrometerOptions(RedisMetricsProperties properties) {
+        if (!properties.isEnabled()) {
+            return MicrometerOptions.disabled();
+        }
+        return MicrometerOptions.builder()
+                .histogram(properties.isHistogram())
+                .minLatency(properties.getMinLatency())
+                .maxLatency(properties.getMaxLatency())
+                .build();
+    }
 }
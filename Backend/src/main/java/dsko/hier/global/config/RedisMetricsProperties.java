@@ -0,0 +1,29 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.redis.metrics")
+public class RedisMetricsProperties {
+    /**
+     * Lettuce 명령별 지연 시간(lettuce.command.completion / firstresponse) 기록 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * Prometheus histogram_quantile 로 집계할 수 있도록 히스토그램 버킷을 내보낼지 여부
+     */
+    private boolean histogram = true;
+
+    /**
+     * 히스토그램 버킷 범위. Redis 명령은 대부분 1ms 안쪽이므로 하한을 낮게 잡습니다.
+     */
+    private Duration minLatency = Duration.ofNanos(100_000); // 0.1ms
+    private Duration maxLatency = Duration.ofSeconds(1);
+}
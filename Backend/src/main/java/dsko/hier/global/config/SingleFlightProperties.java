@@ -0,0 +1,28 @@
+package dsko.hier.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.single-flight")
+public class SingleFlightProperties {
+    /**
+     * 생성 작업을 맡은 서버가 Redis 리스를 보유하는 시간(초). AI 호출 최대 시간보다 길어야 합니다.
+     */
+    private long leaseSeconds = 120;
+
+    /**
+     * 다른 서버가 생성 중일 때 결과를 다시 조회하는 간격(ms)
+     */
+    private long pollIntervalMillis = 300;
+
+    /**
+     * 중복 요청이 먼저 들어온 생성 작업을 기다리는 최대 시간(초). 리스 시간보다 길어야, 리스를 가진 서버가 죽어 리스가 만료됐을 때 기다리던 요청이 리스를 이어받아 생성할 수
+     * 있습니다.
+     */
+    private long waitTimeoutSeconds = 150;
+}
@@ -0,0 +1,28 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.statistics")
+public class StatisticsProperties {
+    /**
+     * 통계 스냅샷 갱신 주기
+     */
+    private Duration refreshInterval = Duration.ofSeconds(5);
+
+    /**
+     * 스냅샷이 이보다 오래되면 (스케줄 지연, Redis 장애 복구 직후 등) 요청 시점에 다시 읽습니다.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(30);
+
+    /**
+     * Redis pub/sub 으로 다른 서버의 즉시 갱신 요청을 받을지 여부
+     */
+    private boolean pushInvalidation = false;
+}
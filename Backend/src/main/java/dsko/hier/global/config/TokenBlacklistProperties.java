@@ -0,0 +1,33 @@
+package dsko.hier.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.token-blacklist")
+public class TokenBlacklistProperties {
+    /**
+     * false 이면 블룸 필터 없이 요청마다 Redis 에서 블랙리스트를 확인합니다.
+     */
+    private boolean localFilterEnabled = true;
+
+    /**
+     * Redis 의 폐기 목록으로 필터를 다시 만드는 주기. pub/sub 메시지를 놓친 경우 최대 이 시간만큼 늦게 반영되고, 만료된 항목도 이때 정리됩니다.
+     */
+    private Duration resyncInterval = Duration.ofMinutes(1);
+
+    /**
+     * 필터 크기 산정 기준 항목 수 (실제 항목이 더 많으면 그 두 배로 만듭니다)
+     */
+    private long expectedInsertions = 10_000;
+
+    /**
+     * 오탐률. 오탐이면 Redis 를 한 번 더 확인할 뿐 결과는 정확합니다.
+     */
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,30 @@
+package dsko.hier.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * spring.threads.virtual.enabled=true 일 때 적용되는 가상 스레드 관련 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fortune.virtual-thread")
+public class VirtualThreadProperties {
+    /**
+     * 동시에 실행할 수 있는 AI 생성 작업 수 (초과 시 429 응답). 가상 스레드는 개수 제한이 없으므로 OpenAI 호출량을 이 값으로 제한합니다.
+     */
+    private int concurrencyLimit = 200;
+
+    /**
+     * 캐리어 스레드 고정(pinning) 감지 여부
+     */
+    private boolean pinningMonitorEnabled = true;
+
+    /**
+     * 이 시간(ms) 이상 고정된 경우에만 기록
+     */
+    private long pinnedThresholdMillis = 20;
+}
@@ -3,10 +3,12 @@ package dsko.hier.global.exception;
 import dsko.hier.global.exception.discord.DiscordService;
 import dsko.hier.global.response.APIResponse;
 import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.BindException;
@@ -60,9 +62,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(TooManyRequestsException.class)
     @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
-    public APIResponse<Object> handleTooManyRequests(TooManyRequestsException e) {
+    public APIResponse<Object> handleTooManyRequests(TooManyRequestsException e, HttpServletResponse response) {
+        // 과부하 시 요청을 덜어 내기 위한 응답이므로 Discord 알림(동기 HTTP 호출)은 보내지 않음. 거절 건수는 메트릭으로 확인
         log.warn("TooManyRequestsException 발생: {}", e.getMessage());
-        discordService.sendDetailedMessage(e);
+        if (e.getRetryAfterSeconds() != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
         return APIResponse.fail(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage());
     }
 
@@ -1,7 +1,18 @@
 package dsko.hier.global.exception;
 
+import lombok.Getter;
+
+@Getter
 public class TooManyRequestsException extends RuntimeException {
+    // 클라이언트에게 Retry-After 헤더로 전달할 재시도 대기 시간(초). 없으면 null
+    private final Long retryAfterSeconds;
+
     public TooManyRequestsException(String message) {
+        this(message, null);
+    }
+
+    public TooManyRequestsException(String message, Long retryAfterSeconds) {
         super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
@@ -0,0 +1,81 @@
+package dsko.hier.global.monitoring;
+
+import dsko.hier.global.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간을 JFR 이벤트(jdk.VirtualThreadPinned)로 감지합니다.
+ * <p>
+ * synchronized 블록 안에서 JDBC/Redis 같은 블로킹 I/O 가 일어나면 캐리어 스레드가 묶여 처리량이 떨어집니다. 감지된 구간은 우리 코드의 가장 가까운 프레임(예:
+ * UserValidator.validate 의 트랜잭션 구간)과 함께 로그로 남기고, virtual.thread.pinned 카운터로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "fortune.virtual-thread", name = "pinning-monitor-enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "dsko.hier.";
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(properties.getPinnedThresholdMillis()))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (임계값 {}ms)", properties.getPinnedThresholdMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String location = findApplicationFrame(event);
+        Counter.builder("virtual.thread.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드 구간 수")
+                .tag("location", location)
+                .register(meterRegistry)
+                .increment();
+        log.warn("가상 스레드 pinning 감지: {}ms, 위치={}", event.getDuration().toMillis(), location);
+    }
+
+    // 스택 트레이스에서 애플리케이션 코드의 첫 프레임을 찾아 고정 원인 구간을 식별
+    private String findApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith(APP_PACKAGE) && !className.contains("$$")) {
+                return className.substring(APP_PACKAGE.length()) + "." + frame.getMethod().getName();
+            }
+        }
+        return "external";
+    }
+}
@@ -0,0 +1,43 @@
+package dsko.hier.global.redis;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 카운터 값 직렬화기. INCR/HINCRBY 가 사용하는 10진수 문자열 그대로 읽고 쓰므로 Redis 명령과 값 형식이 같습니다.
+ */
+public final class LongRedisSerializer implements RedisSerializer<Long> {
+
+    public static final LongRedisSerializer INSTANCE = new LongRedisSerializer();
+
+    private LongRedisSerializer() {
+    }
+
+    @Override
+    public byte[] serialize(Long value) {
+        return value == null ? null : Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public Long deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        long result = 0;
+        boolean negative = bytes[0] == '-';
+        for (int i = negative ? 1 : 0; i < bytes.length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                // 숫자가 아닌 값(예: 과거 JSON 직렬화 값의 따옴표)은 일반 파싱으로 처리
+                return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII).replace("\"", "").trim());
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return Long.class;
+    }
+}
@@ -2,6 +2,7 @@ package dsko.hier.global.redis;
 
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -9,9 +10,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RedisHashService {
 
-    private final RedisTemplate<String, Long> redisTemplate;
+    private final RedisTemplate<String, Long> counterRedisTemplate;
 
-    private static final String FORTUNE_COUNT_KEY = "fortune:counts";
+    public static final String FORTUNE_COUNT_KEY = "fortune:counts";
 
     public static final String DAILY_FORTUNE_TYPE = "daily";
     public static final String LIFE_LONG_FORTUNE_TYPE = "weekly";
@@ -22,13 +23,20 @@ public class RedisHashService {
      * 해시 키 내의 특정 필드 값을 1 증가시킵니다. (HINCRBY 명령어)
      */
     public void incrementFortuneCount(String type) {
-        redisTemplate.opsForHash().increment(FORTUNE_COUNT_KEY, type, 1L);
+        counterRedisTemplate.opsForHash().increment(FORTUNE_COUNT_KEY, type, 1L);
+    }
+
+    /**
+     * 다른 명령과 같은 파이프라인에 HINCRBY 를 추가합니다. 값 형식이 숫자 문자열이라 문자열 커넥션으로 보내도 같습니다.
+     */
+    public void incrementFortuneCount(StringRedisConnection connection, String type) {
+        connection.hIncrBy(FORTUNE_COUNT_KEY, type, 1L);
     }
 
     /**
      * 해시 키에 포함된 모든 필드와 값을 가져옵니다. (HGETALL 명령어)
      */
-    public Map<Object, Object> getAllFortuneCounts() {
-        return redisTemplate.opsForHash().entries(FORTUNE_COUNT_KEY);
+    public Map<String, Long> getAllFortuneCounts() {
+        return counterRedisTemplate.<String, Long>opsForHash().entries(FORTUNE_COUNT_KEY);
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package dsko.hier.global.redis;
+
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 Redis 명령을 한 번의 왕복으로 보냅니다.
+ * <p>
+ * 파이프라인은 공유 커넥션이 아닌 전용 커넥션을 사용하므로, spring.data.redis.lettuce.pool 이 켜져 있으면 풀에서 빌려 쓰고 아니면 매번 새로 연결합니다. 값은
+ * 모두 문자열로 주고받으며, 카운터는 LongRedisSerializer 와 같은 숫자 문자열 형식이라 HINCRBY 등을 그대로 쓸 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisPipelineExecutor {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 콜백에서 보낸 명령들의 결과를 보낸 순서대로 반환합니다.
+     */
+    public List<Object> execute(Consumer<StringRedisConnection> commands) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+}
@@ -3,7 +3,7 @@ package dsko.hier.global.redis;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -11,45 +11,50 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RedisTokenService {
 
-    private final RedisTemplate<String, String> redisStringTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenBlacklistCache tokenBlacklistCache;
+    private final RefreshTokenStore refreshTokenStore;
     private static final String REFRESH_KEY_PREFIX = "refresh:";
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    public static final String BLACKLIST_PREFIX = "blacklist:";
 
-    // 리프레시 토큰 저장
-    public void saveRefreshToken(String username, String refreshToken, long expiration) {
-        // 'refresh:' prefix를 사용하여 리프레시 토큰을 관리
-        redisStringTemplate.opsForValue()
-                .set(REFRESH_KEY_PREFIX + username, refreshToken, expiration, TimeUnit.MILLISECONDS);
-    }
-
-    // 리프레시 토큰 조회
-    public String getRefreshToken(String username) {
-        return redisStringTemplate.opsForValue().get(REFRESH_KEY_PREFIX + username);
+    // 사용자의 모든 리프레시 토큰 폐기 (로그아웃, 관리자 강제 만료 시 사용). 예전 방식으로 저장된 키도 함께 삭제
+    public void deleteRefreshToken(String username) {
+        refreshTokenStore.revokeUser(username);
+        stringRedisTemplate.delete(REFRESH_KEY_PREFIX + username);
     }
 
-    // 리프레시 토큰 삭제 (로그아웃 시 사용)
-    public void deleteRefreshToken(String username) {
-        redisStringTemplate.delete(REFRESH_KEY_PREFIX + username);
+    // 한 기기(토큰 패밀리)의 리프레시 토큰만 폐기 (로그아웃 시 사용)
+    public void deleteRefreshTokenFamily(String familyId) {
+        refreshTokenStore.revokeFamily(familyId);
     }
 
     // 블랙리스트에 추가 (선택 사항)
     public void addTokenToBlacklist(String tokenJti, long expiration) {
-        redisStringTemplate.opsForValue()
+        stringRedisTemplate.opsForValue()
                 .set(BLACKLIST_PREFIX + tokenJti, "invalidated", expiration, TimeUnit.MILLISECONDS);
+        tokenBlacklistCache.register(tokenJti, expiration);
+    }
+
+    // 사용자 영구 차단. isUserBlacklisted 가 읽는 키만 저장하며, jti 폐기 목록(TokenBlacklistCache)에는 넣지 않습니다.
+    public void addUserToBlacklist(String username) {
+        stringRedisTemplate.opsForValue().set(BLACKLIST_PREFIX + username, "invalidated");
     }
 
-    // 토큰이 블랙리스트에 있는지 확인 - JTI(토큰 고유 식별자) 사용
+    // 토큰이 블랙리스트에 있는지 확인 - JTI(토큰 고유 식별자) 사용. 로컬 필터에 없으면 Redis 를 조회하지 않습니다.
     public boolean isTokenBlacklisted(String tokenJti) {
-        return Boolean.TRUE.equals(redisStringTemplate.hasKey(BLACKLIST_PREFIX + tokenJti));
+        if (!tokenBlacklistCache.mightBeRevoked(tokenJti)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BLACKLIST_PREFIX + tokenJti));
     }
 
     // 토큰이 블랙리스트에 있는지 확인 - 사용자 이메일 사용
     public boolean isUserBlacklisted(String username) {
-        return Boolean.TRUE.equals(redisStringTemplate.hasKey(BLACKLIST_PREFIX + username));
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BLACKLIST_PREFIX + username));
     }
 
+    // 모든 사용자의 리프레시 토큰 폐기 (키를 지우지 않고 전역 세대만 올림)
     public void clearAll() {
-        redisStringTemplate.delete(REFRESH_KEY_PREFIX);
-        log.info("Redis 데이터베이스에 있는 모든 리프레쉬 토큰이 삭제되었습니다.");
+        refreshTokenStore.revokeAll();
     }
 }
\ No newline at end of file
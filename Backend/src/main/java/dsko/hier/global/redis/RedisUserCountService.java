@@ -1,38 +1,101 @@
 package dsko.hier.global.redis;
 
-import jakarta.annotation.PostConstruct;
+import dsko.hier.security.domain.UserRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 가입자 수 카운터.
+ * <p>
+ * 기동 시에는 Redis 에 쓰지 않습니다. 키가 없을 때만 users 테이블의 COUNT(*) 로 SETNX 해 여러 서버가 동시에 초기화해도 한 값만 남고, 주기적인 보정 작업이 DB 와 어긋난
+ * 값을 바로잡습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisUserCountService {
 
-    private final RedisTemplate<String, Integer> redisTemplate;
-    private final String USER_COUNT_PREFIX = "user_count:";
+    public static final String USER_COUNT_PREFIX = "user_count:";
+
+    private static final String RECONCILE_LOCK_KEY = "user_count:reconcile-lock";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+
+    // 내가 잡은 락일 때만 삭제
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 키가 있을 때만 INCR (없으면 -1). 키가 없는 상태에서 INCR 하면 1부터 다시 세게 됩니다.
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCR', KEYS[1])
+            end
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
 
     /**
-     * 키와 값을 설정합니다. (SET 명령어)
+     * 키에 해당하는 값을 1 증가시킵니다. 키가 없으면 DB 기준으로 초기화합니다. (가입한 사용자가 이미 커밋되었으면 그대로 포함됩니다)
      */
-    @PostConstruct
-    public void setValue() {
-        redisTemplate.opsForValue().set(USER_COUNT_PREFIX, 0);
+    public void increment() {
+        Long result = stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(USER_COUNT_PREFIX));
+        if (result == null || result < 0) {
+            bootstrap();
+        }
     }
 
     /**
-     * 키에 해당하는 값을 1 증가시킵니다. (INCR 명령어)
+     * 키에 해당하는 값을 가져옵니다. 키가 없으면 DB 기준으로 초기화합니다.
      */
-    public void increment() {
-        redisTemplate.opsForValue().increment(USER_COUNT_PREFIX);
+    public Integer getValue() {
+        String value = stringRedisTemplate.opsForValue().get(USER_COUNT_PREFIX);
+        return value != null ? Integer.parseInt(value) : bootstrap();
+    }
+
+    // 다른 서버가 먼저 초기화했으면 그 값을 사용
+    private int bootstrap() {
+        long count = userRepository.count();
+        Boolean initialized = stringRedisTemplate.opsForValue().setIfAbsent(USER_COUNT_PREFIX, String.valueOf(count));
+        if (Boolean.TRUE.equals(initialized)) {
+            log.info("사용자 수 카운터를 DB 기준 {}명으로 초기화했습니다.", count);
+            return (int) count;
+        }
+        String current = stringRedisTemplate.opsForValue().get(USER_COUNT_PREFIX);
+        return current != null ? Integer.parseInt(current) : (int) count;
     }
 
     /**
-     * 키에 해당하는 값을 가져옵니다. (GET 명령어)
+     * 탈퇴, 소셜 가입 경로, Redis 장애 등으로 생긴 차이를 users 테이블 기준으로 보정합니다.
      */
-    public Integer getValue() {
-        return redisTemplate.opsForValue().get(USER_COUNT_PREFIX);
+    @Scheduled(fixedDelayString = "${fortune.user-count.reconcile-interval:PT1H}",
+            initialDelayString = "${fortune.user-count.reconcile-initial-delay:PT5M}")
+    public void reconcile() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, token, RECONCILE_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            long actual = userRepository.count();
+            String cached = stringRedisTemplate.opsForValue().get(USER_COUNT_PREFIX);
+            if (cached == null || Long.parseLong(cached) != actual) {
+                stringRedisTemplate.opsForValue().set(USER_COUNT_PREFIX, String.valueOf(actual));
+                log.info("사용자 수 카운터 보정: {} -> {}", cached, actual);
+            }
+        } catch (Exception e) {
+            log.warn("사용자 수 카운터 보정 실패", e);
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), token);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package dsko.hier.global.redis;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 토큰 패밀리 단위 리프레시 토큰 저장소.
+ * <p>
+ * 로그인 한 번(= 기기 하나)이 하나의 패밀리이고, 재발급할 때마다 패밀리의 현재 토큰 ID 가 바뀝니다. <br> - refresh:family:{familyId} (HASH): user, current(현재
+ * jti), ver(발급 시점의 사용자 버전), gen(발급 시점의 전역 세대) <br> - refresh:user-version:{email}: 올리면 그 사용자의 모든 패밀리가 무효 <br> -
+ * refresh:generation: 올리면 모든 패밀리가 무효 (SCAN 없이 일괄 폐기) <br> 발급과 재발급은 각각 Lua 스크립트 한 번(Redis 왕복 1회)으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    private static final String USER_VERSION_KEY_PREFIX = "refresh:user-version:";
+    private static final String GENERATION_KEY = "refresh:generation";
+
+    // KEYS: family, user-version, generation / ARGV: email, 첫 jti, TTL(ms)
+    private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+            local ver = redis.call('GET', KEYS[2]) or '0'
+            local gen = redis.call('GET', KEYS[3]) or '0'
+            redis.call('HSET', KEYS[1], 'user', ARGV[1], 'current', ARGV[2], 'ver', ver, 'gen', gen)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: family, user-version, generation / ARGV: email, 제시된 jti, 새 jti, TTL(ms)
+    // 이미 교체된 토큰이 다시 오면 탈취로 보고 패밀리 전체를 폐기합니다.
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local family = redis.call('HMGET', KEYS[1], 'user', 'current', 'ver', 'gen')
+            if not family[1] or family[1] ~= ARGV[1] then
+                return 'UNKNOWN'
+            end
+            local ver = redis.call('GET', KEYS[2]) or '0'
+            local gen = redis.call('GET', KEYS[3]) or '0'
+            if family[3] ~= ver or family[4] ~= gen then
+                redis.call('DEL', KEYS[1])
+                return 'REVOKED'
+            end
+            if family[2] ~= ARGV[2] then
+                redis.call('DEL', KEYS[1])
+                return 'REUSED'
+            end
+            redis.call('HSET', KEYS[1], 'current', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 'ROTATED'
+            """, String.class);
+
+    public enum RotationResult {
+        ROTATED,
+        // 없거나 만료된 패밀리
+        UNKNOWN,
+        // 사용자/전역 폐기 이후의 요청
+        REVOKED,
+        // 이미 교체된 토큰의 재사용 (패밀리 폐기됨)
+        REUSED
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 로그인 시 새 패밀리를 만듭니다.
+     */
+    public void startFamily(String email, String familyId, String tokenId, Duration ttl) {
+        stringRedisTemplate.execute(START_SCRIPT, keys(email, familyId),
+                email, tokenId, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰이면 새 토큰 ID 로 교체합니다.
+     */
+    public RotationResult rotate(String email, String familyId, String presentedTokenId, String newTokenId,
+                                 Duration ttl) {
+        String result = stringRedisTemplate.execute(ROTATE_SCRIPT, keys(email, familyId),
+                email, presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()));
+        RotationResult rotation = result != null ? RotationResult.valueOf(result) : RotationResult.UNKNOWN;
+        if (rotation == RotationResult.REUSED) {
+            log.warn("이미 사용된 리프레시 토큰이 다시 제시되어 패밀리 {}를 폐기했습니다. 사용자: {}", familyId, email);
+        }
+        return rotation;
+    }
+
+    /**
+     * 한 기기(패밀리)만 로그아웃합니다.
+     */
+    public void revokeFamily(String familyId) {
+        stringRedisTemplate.delete(FAMILY_KEY_PREFIX + familyId);
+    }
+
+    /**
+     * 사용자의 모든 패밀리를 무효화합니다. 패밀리 키는 TTL 로 정리됩니다.
+     */
+    public void revokeUser(String email) {
+        stringRedisTemplate.opsForValue().increment(USER_VERSION_KEY_PREFIX + email);
+    }
+
+    /**
+     * 모든 사용자의 리프레시 토큰을 무효화합니다.
+     */
+    public void revokeAll() {
+        stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+        log.info("모든 리프레시 토큰 패밀리를 폐기했습니다.");
+    }
+
+    private static List<String> keys(String email, String familyId) {
+        return List.of(FAMILY_KEY_PREFIX + familyId, USER_VERSION_KEY_PREFIX + email, GENERATION_KEY);
+    }
+}
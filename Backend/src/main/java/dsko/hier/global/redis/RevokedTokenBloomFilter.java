@@ -0,0 +1,76 @@
+package dsko.hier.global.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 ID(jti)용 블룸 필터. 없다고 하면 확실히 없고, 있다고 하면 Redis 에서 다시 확인해야 합니다.
+ * <p>
+ * 추가만 가능하고 삭제는 할 수 없으므로, 만료된 항목은 {@link TokenBlacklistCache} 가 주기적으로 새 필터를 만들어 교체하는 방식으로 정리합니다. 조회와 추가는 여러
+ * 스레드에서 동시에 호출해도 됩니다.
+ */
+public class RevokedTokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    private RevokedTokenBloomFilter(int bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  예상 항목 수만큼 들어 있을 때의 오탐률 (0~1)
+     */
+    public static RevokedTokenBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int bitSize = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new RevokedTokenBloomFilter(bitSize, hashCount);
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = bitIndex(h1 + i * h2);
+            long mask = 1L << index;
+            bits.getAndAccumulate(index >>> 6, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = bitIndex(h1 + i * h2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    // FNV-1a 64 + splitmix64 마무리. 두 32비트 절반을 이중 해싱의 h1, h2 로 사용합니다.
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,125 @@
+package dsko.hier.global.redis;
+
+import dsko.hier.global.config.SingleFlightProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 같은 키의 생성 작업이 동시에 여러 번 실행되지 않도록 합쳐 줍니다(single-flight).
+ * <p>
+ * - 같은 서버 안에서는 먼저 들어온 요청의 결과를 나머지 요청이 함께 기다립니다. <br> - 서버 간에는 Redis 리스(SET NX PX)를 가진 서버만 생성하고, 나머지 서버는 lookup 으로
+ * 저장된 결과가 보일 때까지 기다립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SingleFlightService {
+
+    private static final String LEASE_KEY_PREFIX = "fortune:single-flight:";
+
+    // 내가 잡은 리스일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SingleFlightProperties properties;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key      중복을 판단할 키 (예: daily:사용자:날짜)
+     * @param lookup   이미 저장된 결과 조회. 다른 요청이 생성을 끝냈는지 확인할 때 사용합니다.
+     * @param generate 결과가 없을 때 실행할 생성 작업
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<Optional<T>> lookup, Supplier<T> generate) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            log.info("진행 중인 생성 작업에 합류합니다: {}", key);
+            return (T) await(existing);
+        }
+
+        try {
+            T result = executeWithLease(key, lookup, generate);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T executeWithLease(String key, Supplier<Optional<T>> lookup, Supplier<T> generate) {
+        String leaseKey = LEASE_KEY_PREFIX + key;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getWaitTimeoutSeconds());
+
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, token, Duration.ofSeconds(properties.getLeaseSeconds()));
+
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    // 리스를 얻기 직전에 다른 서버가 생성을 끝냈을 수 있으므로 한 번 더 확인
+                    return lookup.get().orElseGet(generate);
+                } finally {
+                    stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+                }
+            }
+
+            Optional<T> found = lookup.get();
+            if (found.isPresent()) {
+                return found.get();
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TooManyRequestsException("이미 운세를 생성 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            sleep();
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(properties.getWaitTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new TooManyRequestsException("이미 운세를 생성 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getPollIntervalMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package dsko.hier.global.redis;
+
+import dsko.hier.global.config.TokenBlacklistProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 토큰 ID(jti)의 로컬 블룸 필터.
+ * <p>
+ * 거의 모든 토큰은 폐기되지 않았으므로, 필터에 없으면 Redis 를 조회하지 않고 바로 통과시키고 필터에 있을 때만 blacklist:{jti} 를 확인합니다. <br> - 폐기 시
+ * token-blacklist:index(ZSET, jti → 만료 시각)에 기록하고 pub/sub 으로 모든 서버에 알립니다. <br> - 주기적으로 index 에서 만료된 항목을 지우고 남은 항목으로 필터를
+ * 새로 만들어, 놓친 메시지를 복구하고 만료된 jti 를 정리합니다. <br> - 필터를 처음 만들기 전이나 기능이 꺼져 있으면 항상 Redis 를 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistCache {
+
+    public static final String REVOKED_CHANNEL = "token-blacklist:revoked";
+    static final String INDEX_KEY = "token-blacklist:index";
+    private static final String BACKFILL_MARKER_KEY = "token-blacklist:backfilled";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPipelineExecutor redisPipeline;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TokenBlacklistProperties properties;
+
+    private volatile RevokedTokenBloomFilter filter;
+    // 필터를 다시 만드는 동안 도착한 메시지를 잃지 않도록 최근 받은 jti 를 잠시 보관 (jti → 받은 시각)
+    private final Map<String, Long> recentlyRevoked = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isLocalFilterEnabled()) {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> addLocally(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(REVOKED_CHANNEL));
+        }
+    }
+
+    /**
+     * false 이면 확실히 폐기되지 않은 토큰입니다. true 이면 Redis 에서 확인해야 합니다.
+     */
+    public boolean mightBeRevoked(String jti) {
+        RevokedTokenBloomFilter current = filter;
+        return current == null || current.mightContain(jti);
+    }
+
+    /**
+     * 폐기 목록에 등록하고 다른 서버에 알립니다. blacklist:{jti} 키는 호출하는 쪽에서 저장합니다.
+     */
+    public void register(String jti, long expirationMillis) {
+        double expiresAt = System.currentTimeMillis() + (double) expirationMillis;
+        addLocally(jti);
+        redisPipeline.execute(connection -> {
+            connection.zAdd(INDEX_KEY, expiresAt, jti);
+            connection.publish(REVOKED_CHANNEL, jti);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${fortune.token-blacklist.resync-interval:PT1M}")
+    public void scheduledResync() {
+        if (properties.isLocalFilterEnabled()) {
+            resync();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized void resync() {
+        try {
+            backfillIndexOnce();
+            long startedAt = System.currentTimeMillis();
+            List<Object> results = redisPipeline.execute(connection -> {
+                connection.zRemRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, startedAt);
+                connection.zRange(INDEX_KEY, 0, -1);
+            });
+            Set<String> revoked = (Set<String>) results.get(1);
+
+            RevokedTokenBloomFilter rebuilt = RevokedTokenBloomFilter.create(
+                    Math.max(properties.getExpectedInsertions(), revoked.size() * 2L),
+                    properties.getFalsePositiveRate());
+            revoked.forEach(rebuilt::add);
+            recentlyRevoked.keySet().forEach(rebuilt::add);
+            filter = rebuilt;
+            // 위에서 복사한 뒤 교체 전까지 들어온 메시지는 이전 필터에만 추가되었으므로 새 필터에 한 번 더 반영
+            recentlyRevoked.keySet().forEach(rebuilt::add);
+
+            // 이번에 읽은 index 에 이미 포함된 메시지는 더 보관할 필요 없음
+            long keepAfter = startedAt - properties.getResyncInterval().toMillis();
+            recentlyRevoked.values().removeIf(receivedAt -> receivedAt < keepAfter);
+            log.debug("토큰 블랙리스트 필터 갱신: {}건", revoked.size());
+        } catch (Exception e) {
+            // Redis 장애 시 기존 필터를 계속 사용 (처음이면 필터 없이 Redis 확인)
+            log.warn("토큰 블랙리스트 필터 갱신 실패", e);
+        }
+    }
+
+    private void addLocally(String jti) {
+        recentlyRevoked.put(jti, System.currentTimeMillis());
+        RevokedTokenBloomFilter current = filter;
+        if (current != null) {
+            current.add(jti);
+        }
+    }
+
+    // index 도입 전에 저장된 blacklist:* 키를 옮깁니다. 끝까지 옮긴 뒤에 표시하므로 중간에 실패하면 다음 주기에 다시 시도합니다 (ZADD 는 중복 실행해도 같음).
+    private void backfillIndexOnce() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(BACKFILL_MARKER_KEY))) {
+            return;
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(RedisTokenService.BLACKLIST_PREFIX + "*").count(500).build();
+        long now = System.currentTimeMillis();
+        int moved = 0;
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                if (isUserEntry(key)) {
+                    continue; // 사용자 차단(blacklist:{email})은 isUserBlacklisted 로만 확인
+                }
+                Long ttlMillis = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis == null || ttlMillis == -2) {
+                    continue; // 그 사이 만료됨
+                }
+                double expiresAt = ttlMillis < 0 ? Double.POSITIVE_INFINITY : now + (double) ttlMillis;
+                stringRedisTemplate.opsForZSet().add(INDEX_KEY,
+                        key.substring(RedisTokenService.BLACKLIST_PREFIX.length()), expiresAt);
+                moved++;
+            }
+        }
+        stringRedisTemplate.opsForValue().set(BACKFILL_MARKER_KEY, "1");
+        log.info("기존 블랙리스트 {}건을 token-blacklist index 로 옮겼습니다.", moved);
+    }
+
+    // jti 는 UUID 이므로 '@' 가 있으면 사용자 차단 키
+    private static boolean isUserEntry(String key) {
+        return key.indexOf('@') >= 0;
+    }
+}
@@ -0,0 +1,168 @@
+package dsko.hier.membership.application;
+
+import dsko.hier.global.config.QuotaProperties;
+import dsko.hier.membership.domain.UserPlan;
+import dsko.hier.membership.domain.UserPlanRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 무료 운세 횟수를 Redis 에서 원자적으로 관리합니다.
+ * <p>
+ * - 사용자별 해시(quota:{email})에 plan, remaining 을 두고 Lua 스크립트로 "남아 있으면 차감"을 한 번에 처리합니다. <br> - 바뀐 사용자는 dirty 집합에 모아 두었다가
+ * 주기적으로 UserPlan 에 일괄 반영합니다. <br> - Redis 에 없는 사용자(재시작, 만료)는 처음 접근할 때 MySQL 의 UserPlan 으로 다시 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FortuneQuotaService {
+
+    private static final String KEY_PREFIX = "quota:";
+    private static final String DIRTY_KEY = "quota:dirty";
+    private static final long NOT_LOADED = -2L;
+
+    // 반환: 1 차감(또는 유료 플랜), 0 횟수 없음, -2 Redis 에 없음
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local plan = redis.call('HGET', KEYS[1], 'plan')
+            if not plan then return -2 end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if plan ~= 'FREE' then return 1 end
+            local remaining = tonumber(redis.call('HGET', KEYS[1], 'remaining'))
+            if remaining > 0 then
+                redis.call('HINCRBY', KEYS[1], 'remaining', -1)
+                redis.call('SADD', KEYS[2], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 반환: 변경 후 남은 횟수(유료 플랜은 -1), -2 Redis 에 없음
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local plan = redis.call('HGET', KEYS[1], 'plan')
+            if not plan then return -2 end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if plan ~= 'FREE' then return -1 end
+            local remaining = redis.call('HINCRBY', KEYS[1], 'remaining', tonumber(ARGV[3]))
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return remaining
+            """, Long.class);
+
+    // 이미 있으면 덮어쓰지 않음 (다른 요청이 먼저 채웠거나 차감한 값을 보존)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], 'plan', ARGV[1], 'remaining', ARGV[2])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserPlanRepository userPlanRepository;
+    private final QuotaProperties properties;
+
+    /**
+     * 남은 횟수가 있으면 1 차감하고 true 를 반환합니다. 유료 플랜은 차감 없이 true 입니다.
+     */
+    public boolean tryConsume(String email) {
+        Long result = executeLoaded(CONSUME_SCRIPT, email, null);
+        return result == 1L;
+    }
+
+    /**
+     * 예약했던 1회를 돌려줍니다.
+     */
+    public void refund(String email) {
+        executeLoaded(ADD_SCRIPT, email, "1");
+    }
+
+    public void add(String email, int count) {
+        executeLoaded(ADD_SCRIPT, email, String.valueOf(count));
+    }
+
+    public int getRemaining(String email) {
+        String key = KEY_PREFIX + email;
+        Object remaining = stringRedisTemplate.opsForHash().get(key, "remaining");
+        if (remaining == null) {
+            load(email);
+            remaining = stringRedisTemplate.opsForHash().get(key, "remaining");
+        }
+        return Integer.parseInt(String.valueOf(remaining));
+    }
+
+    /**
+     * 사용자의 Redis 횟수 정보를 지웁니다. 탈퇴 후 같은 이메일로 다시 가입하면 새 UserPlan 으로 다시 채워집니다.
+     */
+    public void evict(String email) {
+        stringRedisTemplate.delete(KEY_PREFIX + email);
+        stringRedisTemplate.opsForSet().remove(DIRTY_KEY, email);
+    }
+
+    // 스크립트 실행 결과가 "Redis 에 없음"이면 MySQL 에서 채운 뒤 한 번 더 실행
+    private Long executeLoaded(RedisScript<Long> script, String email, String amount) {
+        List<String> keys = List.of(KEY_PREFIX + email, DIRTY_KEY);
+        String ttlMillis = String.valueOf(properties.getKeyTtl().toMillis());
+        Object[] args = amount == null ? new Object[]{email, ttlMillis} : new Object[]{email, ttlMillis, amount};
+
+        Long result = stringRedisTemplate.execute(script, keys, args);
+        if (result != null && result == NOT_LOADED) {
+            load(email);
+            result = stringRedisTemplate.execute(script, keys, args);
+        }
+        return result;
+    }
+
+    private void load(String email) {
+        UserPlan userPlan = userPlanRepository.findByUserEmail(email)
+                .orElseThrow(
+                        () -> new IllegalArgumentException("해당 사용자의 멤버쉽 정보를 찾을 수 없습니다: " + email)
+                );
+        stringRedisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + email),
+                userPlan.getPlanType().name(),
+                String.valueOf(userPlan.getFreeFortuneCount()), // 유료 플랜은 Integer.MAX_VALUE (무제한)
+                String.valueOf(properties.getKeyTtl().toMillis()));
+    }
+
+    // 이전 실행에서 반영하지 못한 변경분이 남아 있으면 시작 시 먼저 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void flushOnStartup() {
+        writeBack();
+    }
+
+    /**
+     * 변경된 사용자의 남은 횟수를 UserPlan 에 일괄 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${fortune.quota.write-back-interval:PT10S}")
+    public void writeBack() {
+        List<String> emails;
+        while (!(emails = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, properties.getWriteBackBatchSize()))
+                .isEmpty()) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String email : emails) {
+                Object remaining = stringRedisTemplate.opsForHash().get(KEY_PREFIX + email, "remaining");
+                if (remaining != null) {
+                    counts.put(email, Integer.parseInt(String.valueOf(remaining)));
+                }
+            }
+
+            try {
+                userPlanRepository.updateFreeFortuneCounts(counts);
+                log.info("무료 운세 횟수 {}건을 DB에 반영했습니다.", counts.size());
+            } catch (RuntimeException e) {
+                // 반영하지 못한 사용자는 다음 주기에 다시 시도
+                stringRedisTemplate.opsForSet().add(DIRTY_KEY, emails.toArray(String[]::new));
+                log.warn("무료 운세 횟수 DB 반영 실패: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+}
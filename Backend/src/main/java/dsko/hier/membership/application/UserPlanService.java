@@ -17,41 +17,35 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserPlanService {
 
     private final UserPlanRepository userPlanRepository;
+    private final FortuneQuotaService fortuneQuotaService;
 
     //UserPlan 을 회원가입 시 생성할 수 있도록 돕는 메서드
     public void createUserPlan(User user, PlanType planType) {
         userPlanRepository.save(UserPlan.of(user, planType));
     }
 
+    // 횟수 확인/차감은 Redis 에서 원자적으로 처리하고, UserPlan 에는 FortuneQuotaService 가 주기적으로 반영합니다.
     public boolean checkUserHaveRightIfHaveThenReduceCount(String email) {
-        UserPlan userplan = userPlanRepository.findByUserEmail(email)
-                .orElseThrow(
-                        () -> new IllegalArgumentException("해당 사용자의 멤버쉽 정보를 찾을 수 없습니다: " + email)
-                );
-
-        if (!userplan.getPlanType().equals(PlanType.FREE) || userplan.getFreeFortuneCount() >= 0) {
-            if (userplan.getPlanType().equals(PlanType.FREE)) {
-                userplan.decreaseFreeFortuneCount();
-            }
-            return true;
-        }
-
-        return false;
+        return fortuneQuotaService.tryConsume(email);
+    }
+
+    /**
+     * AI 생성 실패 시 예약했던 1회를 돌려줍니다. 무료 플랜만 차감되므로 무료 플랜만 복구합니다.
+     */
+    public void refundFreeFortuneCount(String email) {
+        fortuneQuotaService.refund(email);
     }
 
     public Integer getRemainingFreeFortuneCount(String email) {
-        UserPlan userplan = userPlanRepository.findByUserEmail(email)
-                .orElseThrow(
-                        () -> new IllegalArgumentException("해당 사용자의 멤버쉽 정보를 찾을 수 없습니다: " + email)
-                );
-        return userplan.getFreeFortuneCount();
+        return fortuneQuotaService.getRemaining(email);
     }
 
     public void addFreeFortuneCount(@NotNull String email, int count) {
-        UserPlan userplan = userPlanRepository.findByUserEmail(email)
-                .orElseThrow(
-                        () -> new IllegalArgumentException("해당 사용자의 멤버쉽 정보를 찾을 수 없습니다: " + email)
-                );
-        userplan.increaseFreeFortuneCount(count);
+        fortuneQuotaService.add(email, count);
+    }
+
+    // 사용자 삭제 시 Redis 에 남은 무료 운세 횟수 정보 제거
+    public void evictFreeFortuneCount(String email) {
+        fortuneQuotaService.evict(email);
     }
 }
@@ -1,9 +1,15 @@
 package dsko.hier.membership.domain;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserPlanRepository {
     UserPlan save(UserPlan entity);
 
     Optional<UserPlan> findByUserEmail(String email);
+
+    /**
+     * 사용자 이메일별 남은 무료 운세 횟수를 일괄 반영합니다.
+     */
+    void updateFreeFortuneCounts(Map<String, Integer> countsByEmail);
 }
@@ -2,18 +2,25 @@ package dsko.hier.membership.infra;
 
 import dsko.hier.membership.domain.UserPlan;
 import dsko.hier.membership.domain.UserPlanRepository;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class UserPlanRepositoryImpl implements UserPlanRepository {
 
-    private final UserPlanJpaRepository repository;
+    private static final String UPDATE_FREE_FORTUNE_COUNT_SQL =
+            "UPDATE user_plan SET free_fortune_count = ? WHERE user_id = (SELECT id FROM users WHERE email = ?)";
 
+    private final UserPlanJpaRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public UserPlan save(UserPlan entity) {
@@ -24,4 +31,13 @@ public class UserPlanRepositoryImpl implements UserPlanRepository {
     public Optional<UserPlan> findByUserEmail(String email) {
         return repository.findByUserEmail(email);
     }
+
+    @Override
+    @Transactional
+    public void updateFreeFortuneCounts(Map<String, Integer> countsByEmail) {
+        List<Object[]> args = countsByEmail.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_FREE_FORTUNE_COUNT_SQL, args);
+    }
 }
@@ -6,35 +6,77 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+/**
+ * 로그인 시에는 DB 에서 읽은 계정으로, API 요청 시에는 (jwt.claims-principal 이 켜져 있으면) 액세스 토큰의 username/role 클레임만으로 만들어집니다.
+ * <p>
+ * 클레임으로 만든 경우 emailPasswordAccount 와 password 는 null 이므로, 엔티티가 필요한 곳은 getUsername() 으로 직접 조회해야 합니다.
+ */
 @Slf4j
-@Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Getter
     private final EmailPasswordAccount emailPasswordAccount;
+    private final String claimUsername;
+    private final String claimRole;
+
+    public CustomUserDetails(EmailPasswordAccount emailPasswordAccount) {
+        this(emailPasswordAccount, null, null);
+    }
+
+    private CustomUserDetails(EmailPasswordAccount emailPasswordAccount, String claimUsername, String claimRole) {
+        this.emailPasswordAccount = emailPasswordAccount;
+        this.claimUsername = claimUsername;
+        this.claimRole = claimRole;
+    }
+
+    /**
+     * 검증된 토큰 클레임으로 DB 조회 없이 만듭니다. role 은 ROLE_ 접두사가 없거나 여러 번 붙어 있어도 됩니다.
+     */
+    public static CustomUserDetails fromClaims(String username, String role) {
+        return new CustomUserDetails(null, username, withRolePrefix(role));
+    }
 
     @Override
     public String getUsername() {
+        if (emailPasswordAccount == null) {
+            return claimUsername;
+        }
         return emailPasswordAccount.getUser().getEmail();
     }
 
     @Override
     public String getPassword() {
+        if (emailPasswordAccount == null) {
+            return null;
+        }
         return emailPasswordAccount.getPasswordHash();
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        String role = emailPasswordAccount == null
+                ? claimRole
+                : ROLE_PREFIX + emailPasswordAccount.getUser().getRole().name();
         Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add((GrantedAuthority) () -> "ROLE_" + emailPasswordAccount.getUser().getRole().name());
+        authorities.add((GrantedAuthority) () -> role);
         return authorities;
     }
 
+    // 로그인 시 권한("ROLE_USER")에 접두사가 한 번 더 붙어 발급되므로("ROLE_ROLE_USER") 모두 떼고 하나만 붙입니다.
+    private static String withRolePrefix(String role) {
+        String name = role;
+        while (name.startsWith(ROLE_PREFIX)) {
+            name = name.substring(ROLE_PREFIX.length());
+        }
+        return ROLE_PREFIX + name;
+    }
+
     @Override
     public boolean isAccountNonExpired() {
        return true;
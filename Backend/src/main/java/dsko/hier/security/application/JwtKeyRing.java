@@ -0,0 +1,199 @@
+package dsko.hier.security.application;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.util.Base64URL;
+import dsko.hier.security.config.JwtProperties;
+import dsko.hier.security.config.JwtProperties.SigningKey;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts.SIG;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * JWT 서명 키와 검증 키 모음. 설정으로 한 번 만들고 이후에는 바뀌지 않습니다.
+ * <p>
+ * - 활성 키가 있으면 ES256/EdDSA 로 서명하고 헤더에 kid 를 넣습니다. 없으면 secret 으로 HS256 서명합니다. <br> - 검증 키는 kid 별로 미리 만들어 두므로 검증 시에는
+ * 맵 조회만 합니다. kid 가 없는 토큰은 secret(HS256)으로 검증합니다. <br> - 공개 키는 JWKS JSON 으로 미리 직렬화해 두어 다른 서버가 토큰을 직접 검증할 수 있게
+ * 합니다.
+ */
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    // Ed25519 공개 키의 X.509 인코딩은 12바이트 헤더 뒤에 32바이트 원본 키가 붙은 형태
+    private static final int ED25519_RAW_KEY_LENGTH = 32;
+
+    private final SecretKey secretKey;
+    private final String activeKeyId;
+    private final PrivateKey activeKey;
+    private final SignatureAlgorithm activeAlgorithm;
+    private final Map<String, PublicKey> verificationKeys;
+    private final String jwkSetJson;
+
+    private JwtKeyRing(SecretKey secretKey, String activeKeyId, PrivateKey activeKey,
+                       SignatureAlgorithm activeAlgorithm, Map<String, PublicKey> verificationKeys,
+                       String jwkSetJson) {
+        this.secretKey = secretKey;
+        this.activeKeyId = activeKeyId;
+        this.activeKey = activeKey;
+        this.activeAlgorithm = activeAlgorithm;
+        this.verificationKeys = verificationKeys;
+        this.jwkSetJson = jwkSetJson;
+    }
+
+    public static JwtKeyRing from(JwtProperties properties) {
+        SecretKey secretKey = hasText(properties.getSecret())
+                ? new SecretKeySpec(properties.getSecret().getBytes(StandardCharsets.UTF_8),
+                SIG.HS256.key().build().getAlgorithm())
+                : null;
+
+        Map<String, PublicKey> verificationKeys = new HashMap<>();
+        List<JWK> jwks = new ArrayList<>();
+        PrivateKey activeKey = null;
+        SignatureAlgorithm activeAlgorithm = null;
+        String activeKeyId = hasText(properties.getActiveKeyId()) ? properties.getActiveKeyId() : null;
+
+        List<SigningKey> signingKeys = properties.getSigningKeys() != null ? properties.getSigningKeys() : List.of();
+        for (SigningKey signingKey : signingKeys) {
+            String kid = signingKey.getKid();
+            if (!hasText(kid) || verificationKeys.containsKey(kid)) {
+                throw new IllegalStateException("JWT 서명 키의 kid 가 비어 있거나 중복되었습니다: " + kid);
+            }
+            SignatureAlgorithm algorithm = algorithm(signingKey.getAlgorithm());
+            String keyFactoryAlgorithm = algorithm == SIG.EdDSA ? "Ed25519" : "EC";
+            PublicKey publicKey = publicKey(keyFactoryAlgorithm, signingKey.getPublicKey());
+            verificationKeys.put(kid, publicKey);
+            jwks.add(toJwk(kid, algorithm, publicKey));
+
+            if (kid.equals(activeKeyId)) {
+                if (!hasText(signingKey.getPrivateKey())) {
+                    throw new IllegalStateException("활성 JWT 서명 키에 개인 키가 없습니다: " + kid);
+                }
+                activeKey = privateKey(keyFactoryAlgorithm, signingKey.getPrivateKey());
+                activeAlgorithm = algorithm;
+            }
+        }
+
+        if (activeKeyId != null && activeKey == null) {
+            throw new IllegalStateException("활성 JWT 서명 키를 찾을 수 없습니다: " + activeKeyId);
+        }
+        if (activeKey == null && secretKey == null) {
+            throw new IllegalStateException("jwt.secret 또는 jwt.active-key-id 중 하나는 설정해야 합니다.");
+        }
+        return new JwtKeyRing(secretKey, activeKeyId, activeKey, activeAlgorithm, Map.copyOf(verificationKeys),
+                new JWKSet(jwks).toString());
+    }
+
+    /**
+     * 활성 키로 서명하도록 빌더를 설정합니다.
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (activeKey == null) {
+            return builder.signWith(secretKey);
+        }
+        return builder.header().keyId(activeKeyId).and()
+                .signWith(activeKey, activeAlgorithm);
+    }
+
+    /**
+     * 공개 키 목록 (RFC 7517 JWK Set). 개인 키와 secret 은 포함하지 않습니다.
+     */
+    public String getJwkSetJson() {
+        return jwkSetJson;
+    }
+
+    @Override
+    protected Key locate(ProtectedHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (secretKey == null) {
+                throw new InvalidKeyException("kid 가 없는 토큰을 검증할 키가 없습니다.");
+            }
+            return secretKey;
+        }
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new InvalidKeyException("알 수 없는 kid 입니다: " + kid);
+        }
+        return key;
+    }
+
+    private static SignatureAlgorithm algorithm(String name) {
+        if ("ES256".equalsIgnoreCase(name)) {
+            return SIG.ES256;
+        }
+        if ("EdDSA".equalsIgnoreCase(name)) {
+            return SIG.EdDSA;
+        }
+        throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + name);
+    }
+
+    private static JWK toJwk(String kid, SignatureAlgorithm algorithm, PublicKey publicKey) {
+        if (algorithm == SIG.EdDSA) {
+            byte[] encoded = publicKey.getEncoded();
+            byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_RAW_KEY_LENGTH, encoded.length);
+            return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw))
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.EdDSA)
+                    .build();
+        }
+        return new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey)
+                .keyID(kid)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.ES256)
+                .build();
+    }
+
+    private static PublicKey publicKey(String algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 공개 키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PrivateKey privateKey(String algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 개인 키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // PEM 이면 머리글/꼬리글과 줄바꿈을 제거하고 Base64 DER 로 디코딩
+    private static byte[] decode(String encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException("키가 비어 있습니다.");
+        }
+        String base64 = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -1,21 +1,27 @@
 package dsko.hier.security.application;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import dsko.hier.security.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -27,50 +33,107 @@ public class JwtTokenProvider {
 
     private final JwtProperties properties;
     private final ZoneId zoneId = ZoneId.systemDefault();
-    private SecretKey secretKey;
+    private JwtKeyRing keyRing;
+    private JwtParser parser;
+    // 토큰의 SHA-256 → 검증된 클레임. 원본 토큰은 보관하지 않습니다.
+    private Cache<String, VerifiedClaims> verifiedCache;
 
     private static final String USERNAME_CLAIM = "username";
+    private static final String FAMILY_CLAIM = "fam";
 
     @PostConstruct
     public void initSecretKey() {
-        this.secretKey = new SecretKeySpec(
-                properties.getSecret().getBytes(StandardCharsets.UTF_8),
-                SIG.HS256.key().build().getAlgorithm()
-        );
+        this.keyRing = JwtKeyRing.from(properties);
+        // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용. 검증 키는 헤더의 kid 로 키 모음에서 찾음
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
+        this.verifiedCache = properties.getVerifiedCacheMaximumSize() > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheMaximumSize())
+                .expireAfter(Expiry.creating((String key, VerifiedClaims claims) -> untilExpiration(claims)))
+                .build()
+                : null;
     }
 
     public String createAccessToken(String username, String role) {
+        return createAccessToken(username, role, null);
+    }
+
+    /**
+     * @param familyId 함께 발급된 리프레시 토큰의 패밀리. 로그아웃 시 이 기기의 패밀리만 폐기하는 데 사용합니다.
+     */
+    public String createAccessToken(String username, String role, String familyId) {
         LocalDateTime expiredTime = LocalDateTime.now().plusMinutes(properties.getAccessExpirationMinutes());
-        return Jwts.builder()
+        return keyRing.sign(Jwts.builder())
                 .id(UUID.randomUUID().toString())
                 .claim("category", "access")
                 .claim(USERNAME_CLAIM, username)
                 .claim("role", "ROLE_" + role)
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(Date.from(Instant.now()))
                 .expiration(Date.from(expiredTime.atZone(zoneId).toInstant()))
-                .signWith(secretKey)
                 .compact();
     }
 
-    public String createRefreshToken(String username, String role) {
-        log.info("프로퍼티에 정의도어 있는 리프레시 토큰 만료 기간(일): {}",
-                properties.getRefreshExpirationDays());
+    /**
+     * @param familyId 로그인 한 번(기기 하나)마다 만들어지는 토큰 패밀리 ID
+     * @param tokenId  이 리프레시 토큰의 jti. 재발급할 때마다 새로 만듭니다.
+     */
+    public String createRefreshToken(String username, String role, String familyId, String tokenId) {
         LocalDateTime expiredTime = LocalDateTime.now().plusDays(properties.getRefreshExpirationDays());
-        log.info("리프레시 토큰 만료 시간: {}", expiredTime);
-        return Jwts.builder()
+        log.debug("리프레시 토큰 만료 시간: {}", expiredTime);
+        return keyRing.sign(Jwts.builder())
+                .id(tokenId)
                 .claim("category", "refresh")
                 .claim(USERNAME_CLAIM, username)
                 .claim("role", "ROLE_" + role)
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(Date.from(Instant.now()))
                 .expiration(Date.from(expiredTime.atZone(zoneId).toInstant()))
-                .signWith(secretKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 검증용 공개 키 목록 (JWKS JSON)
+     */
+    public String getJwkSet() {
+        return keyRing.getJwkSetJson();
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofDays(properties.getRefreshExpirationDays());
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 서명/만료를 검증하고 클레임을 반환합니다. 검증에 실패하면 비어 있습니다.
+     * <p>
+     * 최근 검증한 토큰은 만료 시각까지 캐시에서 바로 반환하므로 서명 검증을 다시 하지 않습니다. 블랙리스트 확인은 호출하는 쪽에서 매번 해야 합니다.
+     */
+    public Optional<VerifiedClaims> verify(String token) {
+        String cacheKey = verifiedCache != null ? cacheKey(token) : null;
+        if (cacheKey != null) {
+            VerifiedClaims cached = verifiedCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            VerifiedClaims verified = new VerifiedClaims(
+                    claims.getId(),
+                    claims.get(USERNAME_CLAIM, String.class),
+                    claims.get("role", String.class),
+                    claims.get("category", String.class),
+                    claims.get(FAMILY_CLAIM, String.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+            );
+            // 만료 시각이 없는 토큰은 언제 버려야 할지 알 수 없으므로 캐시하지 않음
+            if (cacheKey != null && verified.expiresAt() != null) {
+                verifiedCache.put(cacheKey, verified);
+            }
+            return Optional.of(verified);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -80,7 +143,11 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     public String getJwtIdFromToken(String token) {
@@ -91,6 +158,10 @@ public class JwtTokenProvider {
         return parseClaims(token).get(USERNAME_CLAIM, String.class);
     }
 
+    public String getFamilyIdFromToken(String token) {
+        return parseClaims(token).get(FAMILY_CLAIM, String.class);
+    }
+
     public String getRoleFromToken(String token) {
         return parseClaims(token).get("role", String.class);
     }
@@ -101,10 +172,20 @@ public class JwtTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static Duration untilExpiration(VerifiedClaims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String cacheKey(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
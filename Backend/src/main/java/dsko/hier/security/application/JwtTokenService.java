@@ -1,8 +1,10 @@
 package dsko.hier.security.application;
 
-import dsko.hier.global.redis.RedisTokenService;
+import dsko.hier.global.redis.RefreshTokenStore;
+import dsko.hier.global.redis.RefreshTokenStore.RotationResult;
 import dsko.hier.security.dto.response.TokenResponse;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,41 +15,55 @@ import org.springframework.stereotype.Service;
 public class JwtTokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTokenService redisTokenService;
+    private final RefreshTokenStore refreshTokenStore;
 
+    // 로그인: 새 토큰 패밀리(= 기기 하나)를 시작합니다. 다른 기기의 패밀리에는 영향이 없습니다.
     public TokenResponse issueJwtAuth(String userEmail, String role) {
-        String accessToken = jwtTokenProvider.createAccessToken(userEmail, role);
-        String refreshToken = jwtTokenProvider.createRefreshToken(userEmail, role);
+        String familyId = UUID.randomUUID().toString();
+        String refreshTokenId = UUID.randomUUID().toString();
+
+        String accessToken = jwtTokenProvider.createAccessToken(userEmail, role, familyId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(userEmail, role, familyId, refreshTokenId);
 
-        LocalDateTime refreshTokenExp = jwtTokenProvider.getExpirationDateFromToken(refreshToken);
-        //LocalDateTime -> long
-        long refreshTokenExpMillisecond = java.time.Duration.between(LocalDateTime.now(), refreshTokenExp).toMillis();
         //Redis에 저장
-        redisTokenService.saveRefreshToken(userEmail, refreshToken, refreshTokenExpMillisecond);
+        refreshTokenStore.startFamily(userEmail, familyId, refreshTokenId, jwtTokenProvider.getRefreshTokenTtl());
 
         return TokenResponse.of(accessToken, refreshToken);
     }
 
     public TokenResponse reissueJwtToken(String refreshToken) {
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
-        String role = jwtTokenProvider.getRoleFromToken(refreshToken);
-
         // 리프레시 토큰 검증
-        //a. 토큰 유효성 검사
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid refresh token");
-        }
+        //a. 토큰 유효성 검사 (파싱은 한 번만)
+        VerifiedClaims claims = jwtTokenProvider.verify(refreshToken)
+                .filter(verified -> "refresh".equals(verified.category()))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
         //b. 토큰 만료 시간 검사
-        if (jwtTokenProvider.getExpirationDateFromToken(refreshToken).isBefore(LocalDateTime.now())) {
+        if (claims.expiresAt() == null || claims.expiresAt().isBefore(Instant.now())) {
             throw new IllegalArgumentException("Expired refresh token");
         }
-        // 2. Redis에 저장된 리프레시 토큰과 일치하는지 확인
-        String refreshTokenFromRedis = redisTokenService.getRefreshToken(username);
-        if (refreshTokenFromRedis == null || !refreshTokenFromRedis.equals(refreshToken)) {
+        // 패밀리 도입 전에 발급된 토큰은 재발급하지 않음 (다시 로그인)
+        if (claims.familyId() == null || claims.jwtId() == null) {
             throw new IllegalArgumentException("Invalid refresh token");
         }
 
-        // 3. 새로운 액세스 토큰 및 리프레시 토큰 발급
-        return issueJwtAuth(username, role);
+        // 2. 패밀리의 현재 토큰인지 확인하고 새 토큰 ID 로 교체 (Redis 왕복 1회)
+        String username = claims.username();
+        String role = withoutRolePrefix(claims.role());
+        String newRefreshTokenId = UUID.randomUUID().toString();
+        RotationResult result = refreshTokenStore.rotate(username, claims.familyId(), claims.jwtId(),
+                newRefreshTokenId, jwtTokenProvider.getRefreshTokenTtl());
+        if (result != RotationResult.ROTATED) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        // 3. 같은 패밀리로 새로운 액세스 토큰 및 리프레시 토큰 발급
+        return TokenResponse.of(
+                jwtTokenProvider.createAccessToken(username, role, claims.familyId()),
+                jwtTokenProvider.createRefreshToken(username, role, claims.familyId(), newRefreshTokenId));
+    }
+
+    // 토큰의 role 클레임에는 발급 시 ROLE_ 이 붙으므로, 재발급할 때 접두사가 계속 늘어나지 않도록 하나 떼어 냄
+    private static String withoutRolePrefix(String role) {
+        return role != null && role.startsWith("ROLE_") ? role.substring("ROLE_".length()) : role;
     }
 }
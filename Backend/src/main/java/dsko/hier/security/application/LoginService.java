@@ -46,8 +46,15 @@ public class LoginService {
     }
 
     public void logout(String token) {
-        String username = tokenProvider.getUsernameFromToken(token.substring(7));
-        redisTokenService.deleteRefreshToken(username);
+        String accessToken = token.substring(7);
+        String username = tokenProvider.getUsernameFromToken(accessToken);
+        String familyId = tokenProvider.getFamilyIdFromToken(accessToken);
+        // 이 기기의 패밀리만 폐기. 패밀리 정보가 없는 예전 토큰이면 사용자의 모든 리프레시 토큰 폐기
+        if (familyId != null) {
+            redisTokenService.deleteRefreshTokenFamily(familyId);
+        } else {
+            redisTokenService.deleteRefreshToken(username);
+        }
         log.info("User {} logged out, refresh token deleted from Redis", username);
     }
 
@@ -1,5 +1,6 @@
 package dsko.hier.security.application;
 
+import dsko.hier.fortune.application.StatisticsSnapshotService;
 import dsko.hier.global.redis.RedisUserCountService;
 import dsko.hier.membership.application.UserPlanService;
 import dsko.hier.membership.domain.PlanType;
@@ -28,6 +29,7 @@ public class SignUpService {
     private final EmailPasswordAccountRepository emailPasswordAccountRepository;
     private final UserPlanService userPlanService;
     private final RedisUserCountService redisUserCountService;
+    private final StatisticsSnapshotService statisticsSnapshotService;
 
     public UUID signUp(EmailSignUpDto req) {
         //0. BirthInfo 생성
@@ -64,6 +66,7 @@ public class SignUpService {
         log.info("레디스에 사용자 수 1 증가 시도");
         redisUserCountService.increment();
         log.info("레디스에 사용자 수 1 증가 시도 완료");
+        statisticsSnapshotService.publishInvalidation();
 
         return emailPasswordAccountId;
     }
@@ -0,0 +1,23 @@
+package dsko.hier.security.application;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 검증을 통과한 토큰의 클레임. 필터는 토큰을 한 번만 파싱하고 이 값을 사용합니다.
+ *
+ * @param jwtId     jti
+ * @param username  username 클레임 (이메일)
+ * @param role      role 클레임 (ROLE_ 접두사 포함)
+ * @param category  access / refresh
+ * @param familyId  리프레시 토큰 패밀리 ID (패밀리 도입 전에 발급된 토큰에는 없음)
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedClaims(
+        String jwtId,
+        String username,
+        String role,
+        String category,
+        String familyId,
+        Instant expiresAt
+) {
+}
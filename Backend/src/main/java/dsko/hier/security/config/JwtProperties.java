@@ -1,5 +1,7 @@
 package dsko.hier.security.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -11,10 +13,22 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
     /**
-     * JWT secret key
+     * JWT secret key. 비대칭 서명 키가 없을 때 HS256 으로 서명하고, kid 가 없는 (예전에 발급된) 토큰을 검증하는 데 사용합니다.
      */
     private String secret;
 
+    /**
+     * 새 토큰을 서명할 키의 kid. 비어 있으면 secret 으로 HS256 서명합니다.
+     */
+    private String activeKeyId;
+
+    /**
+     * 비대칭 서명/검증 키 목록. 활성 키가 아닌 키는 검증과 JWKS 공개에만 쓰입니다.
+     * <p>
+     * 교체 순서: 새 키를 검증 전용으로 추가(JWKS 에 먼저 공개) → activeKeyId 를 새 키로 변경 → 이전 키로 서명된 토큰이 모두 만료되면 이전 키 제거
+     */
+    private List<SigningKey> signingKeys = new ArrayList<>();
+
     /**
      * Access token 만료 시간(분)
      */
@@ -29,4 +43,38 @@ public class JwtProperties {
      * JWT 토큰 헤더 이름
      */
     private String accessHeaderName;
+
+    /**
+     * 서명 검증을 마친 토큰을 보관할 최대 개수 (0 이면 캐시하지 않음). 항목은 토큰 만료 시각에 함께 만료됩니다.
+     */
+    private long verifiedCacheMaximumSize = 10_000;
+
+    /**
+     * true 이면 요청마다 DB 에서 계정을 읽지 않고 액세스 토큰의 username/role 클레임으로 인증 정보를 만듭니다. 권한 변경은 토큰이 다시 발급될 때 반영됩니다.
+     */
+    private boolean claimsPrincipal = false;
+
+    @Getter
+    @Setter
+    public static class SigningKey {
+        /**
+         * JWT 헤더의 kid
+         */
+        private String kid;
+
+        /**
+         * ES256 (P-256) 또는 EdDSA (Ed25519)
+         */
+        private String algorithm = "ES256";
+
+        /**
+         * PKCS#8 개인 키 (PEM 또는 Base64 DER). 검증 전용 키는 비워 둡니다.
+         */
+        private String privateKey;
+
+        /**
+         * X.509 공개 키 (PEM 또는 Base64 DER)
+         */
+        private String publicKey;
+    }
 }
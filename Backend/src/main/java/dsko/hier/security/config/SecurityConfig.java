@@ -12,6 +12,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -35,6 +36,7 @@ public class SecurityConfig {
     private final JwtTokenProvider tokenProvider;
     private final RedisTokenService redisTokenService;
     private final CustomUserDetailService userDetailsService;
+    private final JwtProperties jwtProperties;
     private final DiscordService discordService;
     private final ObjectMapper objectMapper;
 
@@ -48,6 +50,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(whiteListProperties.getPaths().toArray(new String[0])).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
                         .requestMatchers("/admin/**").hasAnyRole("ADMIN", "CEO")
                         .anyRequest().authenticated()
                 )
@@ -59,7 +62,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider, redisTokenService, userDetailsService);
+        return new JwtAuthenticationFilter(tokenProvider, redisTokenService, userDetailsService, jwtProperties);
     }
 
     @Bean
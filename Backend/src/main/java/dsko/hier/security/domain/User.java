@@ -7,6 +7,7 @@ import static lombok.AccessLevel.PROTECTED;
 import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
 import dsko.hier.fortune.domain.dreamDomain.DreamAnalysis;
 import dsko.hier.fortune.domain.faceDomain.Face;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
 import dsko.hier.fortune.domain.totalDomain.TotalFortune;
 import dsko.hier.global.domain.BaseTimeEntity;
 import dsko.hier.membership.domain.UserPlan;
@@ -69,6 +70,9 @@ public class User extends BaseTimeEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<DreamAnalysis> dreamAnalyses = new ArrayList<>();
 
+    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    private List<FortuneResultIndex> resultIndexes = new ArrayList<>();
+
     @NotNull
     @Embedded // BirthInfo를 값 타입으로 포함
     private BirthInfo birthInfo;
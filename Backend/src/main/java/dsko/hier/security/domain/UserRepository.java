@@ -15,4 +15,6 @@ public interface UserRepository {
     Page<User> findAll(Pageable pageable);
 
     void delete(User user);
+
+    long count();
 }
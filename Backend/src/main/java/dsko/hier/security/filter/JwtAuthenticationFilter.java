@@ -2,13 +2,17 @@ package dsko.hier.security.filter;
 
 import dsko.hier.global.redis.RedisTokenService;
 import dsko.hier.security.application.CustomUserDetailService;
+import dsko.hier.security.application.CustomUserDetails;
 import dsko.hier.security.application.JwtTokenProvider;
+import dsko.hier.security.application.VerifiedClaims;
+import dsko.hier.security.config.JwtProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final RedisTokenService redisTokenService;
     private final CustomUserDetailService userDetailsService;
+    private final JwtProperties jwtProperties;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -38,34 +43,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwt = getJwtFromRequest(request);
 
         if (jwt != null) {
-            if (tokenProvider.validateToken(jwt)) {
-                String jti = tokenProvider.getJwtIdFromToken(jwt);
-
-                if (redisTokenService.isTokenBlacklisted(jti)) {
-                    sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
-                    return; // 블랙리스트 토큰이므로 필터 체인 중단
-                }
-
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
-                    );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
-            } else {
+            // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+            Optional<VerifiedClaims> claims = tokenProvider.verify(jwt);
+            if (claims.isEmpty()) {
                 // 토큰이 유효하지 않으므로, 즉시 401 응답을 보내고 필터 체인 중단
                 sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired JWT token.");
                 return;
             }
+
+            if (redisTokenService.isTokenBlacklisted(claims.get().jwtId())) {
+                sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
+                return; // 블랙리스트 토큰이므로 필터 체인 중단
+            }
+
+            String username = claims.get().username();
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = loadUserDetails(claims.get());
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities()
+                );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         // 토큰이 없거나 유효성 검증을 통과한 경우, 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
+    // 클레임 모드에서는 DB 를 조회하지 않고, role 클레임이 없는 토큰만 DB 에서 읽습니다.
+    private UserDetails loadUserDetails(VerifiedClaims claims) {
+        if (jwtProperties.isClaimsPrincipal() && claims.role() != null) {
+            return CustomUserDetails.fromClaims(claims.username(), claims.role());
+        }
+        return userDetailsService.loadUserByUsername(claims.username());
+    }
+
     private void sendErrorResponse(HttpServletResponse response, int status, String message) throws IOException {
         response.setStatus(status);
         response.setContentType("application/json;charset=UTF-8");
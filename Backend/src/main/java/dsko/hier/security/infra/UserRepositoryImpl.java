@@ -39,4 +39,9 @@ public class UserRepositoryImpl implements UserRepository {
     public void delete(User user) {
         userJpaRepository.delete(user);
     }
+
+    @Override
+    public long count() {
+        return userJpaRepository.count();
+    }
 }
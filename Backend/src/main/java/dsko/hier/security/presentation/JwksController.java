@@ -0,0 +1,31 @@
+package dsko.hier.security.presentation;
+
+import dsko.hier.security.application.JwtTokenProvider;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 다른 서버와 관리자 페이지가 토큰을 직접 검증할 수 있도록 공개 키를 제공합니다. 표준 JWKS 형식이어야 하므로 APIResponse 로 감싸지 않습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // 키 모음은 기동 시 한 번 직렬화되며, 키 교체는 새 키를 먼저 공개한 뒤 진행하므로 클라이언트 쪽 캐시를 허용
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .contentType(JWK_SET)
+                .body(jwtTokenProvider.getJwkSet());
+    }
+}
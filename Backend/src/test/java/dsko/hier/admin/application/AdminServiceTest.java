@@ -0,0 +1,84 @@
+package dsko.hier.admin.application;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.admin.UserCRUDRequest;
+import dsko.hier.fortune.application.StatisticsSnapshotService;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import dsko.hier.global.redis.RedisTokenService;
+import dsko.hier.global.redis.RedisUserCountService;
+import dsko.hier.membership.application.UserPlanService;
+import dsko.hier.security.domain.EmailPasswordAccountRepository;
+import dsko.hier.security.domain.User;
+import dsko.hier.security.domain.UserRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceTest {
+
+    @Mock
+    BCryptPasswordEncoder passwordEncoder;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    EmailPasswordAccountRepository emailPasswordAccountRepository;
+
+    @Mock
+    UserPlanService userPlanService;
+
+    @Mock
+    RedisUserCountService redisUserCountService;
+
+    @Mock
+    RedisTokenService redisTokenService;
+
+    @Mock
+    StatisticsSnapshotService statisticsSnapshotService;
+
+    @Mock
+    FortuneResultCache fortuneResultCache;
+
+    @InjectMocks
+    AdminService adminService;
+
+    @Test
+    @DisplayName("사용자를 삭제하면 함께 삭제되는 결과를 결과 캐시에서 지우고 무료 운세 횟수 정보도 제거한다")
+    void deleteUser_evictsCachedResultsAndQuota() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        User user = mock(User.class);
+        UUID dreamId = UUID.randomUUID();
+        UUID dailyId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(user.getEmail()).thenReturn("user@example.com");
+        when(user.getResultIndexes()).thenReturn(List.of(
+                FortuneResultIndex.of(ResultType.DREAM, dreamId, user, now),
+                FortuneResultIndex.of(ResultType.DAILY_FORTUNE, dailyId, user, now)));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        // When
+        adminService.deleteUser(new UserCRUDRequest(userId));
+
+        // Then
+        verify(userRepository).delete(user);
+        verify(fortuneResultCache).evict(ResultType.DREAM, dreamId);
+        verify(fortuneResultCache).evict(ResultType.DAILY_FORTUNE, dailyId);
+        verify(userPlanService).evictFreeFortuneCount("user@example.com");
+    }
+}
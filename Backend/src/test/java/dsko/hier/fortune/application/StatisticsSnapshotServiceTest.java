@@ -0,0 +1,121 @@
+package dsko.hier.fortune.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.dto.Statistics;
+import dsko.hier.global.config.StatisticsProperties;
+import dsko.hier.global.redis.RedisUserCountService;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsSnapshotServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisUserCountService redisUserCountService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private StatisticsSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new StatisticsSnapshotService(stringRedisTemplate, redisUserCountService, listenerContainer,
+                new StatisticsProperties());
+    }
+
+    @Test
+    @DisplayName("한 번의 파이프라인 결과로 통계를 만들고, 이후 요청은 스냅샷을 재사용한다")
+    void getStatistics_singlePipeline_thenCached() {
+        // Given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(
+                Map.of("daily", "3", "weekly", "2", "face", "1"),
+                "10"
+        ));
+
+        // When
+        Statistics first = snapshotService.getStatistics();
+        Statistics second = snapshotService.getStatistics();
+
+        // Then
+        assertEquals(10, first.totalUsers());
+        assertEquals(3, first.dailyFortuneResultCount());
+        assertEquals(2, first.lifeLongResultCount());
+        assertEquals(1, first.faceResultCount());
+        assertEquals(0, first.dreamInterpretationResultCount());
+        assertEquals(first, second);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 마지막 스냅샷을 유지한다")
+    void refresh_failure_keepsLastSnapshot() {
+        // Given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(Arrays.asList(Map.of("dream", "7"), null))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(redisUserCountService.getValue()).thenReturn(4);
+        Statistics before = snapshotService.getStatistics();
+
+        // When
+        snapshotService.scheduledRefresh();
+
+        // Then
+        assertEquals(before, snapshotService.getStatistics());
+        assertEquals(7, before.dreamInterpretationResultCount());
+        assertEquals(4, before.totalUsers());
+    }
+
+    @Test
+    @DisplayName("처음 갱신이 실패해도 실패한 시각을 기록해, 이후 요청이 매번 Redis 를 다시 기다리지 않는다")
+    void refresh_failureWithoutSnapshot_recordsAttempt() {
+        // Given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        Statistics first = snapshotService.getStatistics();
+        Statistics second = snapshotService.getStatistics();
+
+        // Then
+        assertEquals(0, first.totalUsers());
+        assertEquals(first, second);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("push-invalidation 이 켜져 있을 때만 갱신 요청을 발행한다")
+    void publishInvalidation_onlyWhenEnabled() {
+        // Given
+        StatisticsProperties enabled = new StatisticsProperties();
+        enabled.setPushInvalidation(true);
+        StatisticsSnapshotService pushService = new StatisticsSnapshotService(stringRedisTemplate,
+                redisUserCountService, listenerContainer, enabled);
+
+        // When
+        snapshotService.publishInvalidation();
+        pushService.publishInvalidation();
+
+        // Then
+        verify(stringRedisTemplate, times(1))
+                .convertAndSend(StatisticsSnapshotService.INVALIDATION_CHANNEL, "refresh");
+    }
+}
@@ -0,0 +1,122 @@
+package dsko.hier.fortune.application.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.domain.analyticsDomain.FortuneStatRollupRepository;
+import dsko.hier.fortune.domain.analyticsDomain.RollupGranularity;
+import dsko.hier.fortune.domain.analyticsDomain.StatTotals;
+import dsko.hier.global.config.AnalyticsProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneRollupCompactorTest {
+
+    @Mock
+    private FortuneMinuteBuckets minuteBuckets;
+
+    @Mock
+    private FortuneStatRollupRepository rollupRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private FortuneRollupCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        compactor = new FortuneRollupCompactor(minuteBuckets, rollupRepository, stringRedisTemplate,
+                new AnalyticsProperties());
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 닫힌 분 버킷을 시간 버킷 전체로 다시 합산해 덮어쓰고, 워터마크를 현재 분으로 옮긴다")
+    void compactUntil_overwritesHourAndDay() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 10, 30);
+        when(valueOperations.get("fortune:ts:compacted")).thenReturn(now.minusMinutes(5).toString());
+        when(minuteBuckets.read(anyList())).thenAnswer(invocation -> {
+            List<LocalDateTime> minutes = invocation.getArgument(0);
+            Map<LocalDateTime, Map<String, StatTotals>> buckets = new LinkedHashMap<>();
+            minutes.forEach(minute -> buckets.put(minute, Map.of("daily", new StatTotals("daily", 2, 100, 1))));
+            return buckets;
+        });
+        when(rollupRepository.sumHourly(any(), any())).thenReturn(List.of(new StatTotals("daily", 60, 3000, 30)));
+
+        // When
+        compactor.compactUntil(now);
+
+        // Then
+        ArgumentCaptor<Collection<StatTotals>> hourly = ArgumentCaptor.captor();
+        verify(rollupRepository).overwrite(eq(RollupGranularity.HOUR), eq(now.withMinute(0)), hourly.capture());
+        StatTotals hourTotal = new ArrayList<>(hourly.getValue()).get(0);
+        assertEquals(60, hourTotal.requestCount()); // 10:00 ~ 10:29, 30개 버킷 x 2건
+        assertEquals(30, hourTotal.latencySamples());
+        verify(rollupRepository).overwrite(eq(RollupGranularity.DAY), eq(now.toLocalDate().atStartOfDay()), anyList());
+        verify(valueOperations).set("fortune:ts:compacted", now.toString());
+    }
+
+    @Test
+    @DisplayName("새로 닫힌 분이 없으면 아무것도 하지 않는다")
+    void compactUntil_nothingToDo() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 10, 30);
+        when(valueOperations.get("fortune:ts:compacted")).thenReturn(now.toString());
+
+        // When
+        compactor.compactUntil(now);
+
+        // Then
+        verify(minuteBuckets, never()).read(anyList());
+        verify(valueOperations, never()).set(any(), any());
+    }
+
+    @Test
+    @DisplayName("압축 락은 무조건 삭제하지 않고, 잡을 때 넣은 토큰이 그대로일 때만 해제한다")
+    void compact_releasesOnlyOwnLock() {
+        // Given
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq("fortune:ts:compact-lock"), token.capture(), any(Duration.class)))
+                .thenReturn(true);
+        when(valueOperations.get("fortune:ts:compacted")).thenReturn(LocalDateTime.now().plusMinutes(1).toString());
+
+        // When
+        compactor.compact();
+
+        // Then
+        verify(stringRedisTemplate).execute(anyScript(), eq(List.of("fortune:ts:compact-lock")),
+                eq(token.getValue()));
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    // 타입이 있는 매처 (any(RedisScript.class) 는 unchecked 경고)
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
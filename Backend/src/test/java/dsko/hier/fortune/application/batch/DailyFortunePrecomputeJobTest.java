@@ -0,0 +1,118 @@
+package dsko.hier.fortune.application.batch;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.daily.application.DailyFortuneStrategy;
+import dsko.hier.fortune.domain.dailyDomain.DailyFortuneRepository;
+import dsko.hier.global.config.DailyPrecomputeProperties;
+import dsko.hier.security.domain.User;
+import dsko.hier.security.domain.UserRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class DailyFortunePrecomputeJobTest {
+
+    @Mock
+    private DailyFortuneStrategy dailyFortuneStrategy;
+
+    @Mock
+    private DailyFortuneRepository dailyFortuneRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private DailyFortunePrecomputeJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new DailyFortunePrecomputeJob(dailyFortuneStrategy, dailyFortuneRepository, userRepository,
+                stringRedisTemplate, new DailyPrecomputeProperties());
+    }
+
+    @Test
+    @DisplayName("묶음 생성에서 저장된 사용자는 다시 생성하지 않고, 락은 작업 시간보다 길게 잡았다가 자신의 토큰으로만 해제한다")
+    void precomputeToday_retriesOnlyUnsavedUsers_andReleasesOwnLock() {
+        // Given
+        LocalDate today = LocalDate.now();
+        String lockKey = "fortune:daily-precompute:lock:" + today;
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Duration> lockTtl = ArgumentCaptor.forClass(Duration.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(lockKey), token.capture(), lockTtl.capture())).thenReturn(true);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        when(dailyFortuneRepository.findUserEmailsWithFortuneSince(today.minusDays(7)))
+                .thenReturn(List.of("saved@example.com", "unsaved@example.com"));
+        when(dailyFortuneRepository.findUserEmailsWithFortuneSince(today)).thenReturn(List.of());
+
+        User saved = mock(User.class);
+        User unsaved = mock(User.class);
+        when(saved.getEmail()).thenReturn("saved@example.com");
+        when(userRepository.findByEmail("saved@example.com")).thenReturn(Optional.of(saved));
+        when(userRepository.findByEmail("unsaved@example.com")).thenReturn(Optional.of(unsaved));
+        when(dailyFortuneStrategy.executeBatch(List.of(saved, unsaved))).thenReturn(Set.of(saved));
+
+        // When
+        job.precomputeToday();
+
+        // Then
+        verify(dailyFortuneStrategy).precompute(unsaved);
+        verify(dailyFortuneStrategy, never()).precompute(saved);
+        verify(stringRedisTemplate).execute(anyScript(), eq(List.of(lockKey)), eq(token.getValue()));
+        verify(stringRedisTemplate, never()).delete(anyString());
+        assertTrue(lockTtl.getValue().compareTo(Duration.ofMinutes(50)) > 0, "락 TTL 이 작업 제한 시간보다 길어야 함");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 락을 잡고 있으면 실행하지 않는다")
+    void precomputeToday_lockedElsewhere_skips() {
+        // Given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        job.precomputeToday();
+
+        // Then
+        verify(dailyFortuneRepository, never()).findUserEmailsWithFortuneSince(any());
+        verify(stringRedisTemplate, never()).execute(anyScript(), anyList(), any());
+    }
+
+    // 타입이 있는 매처 (any(RedisScript.class) 는 unchecked 경고)
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
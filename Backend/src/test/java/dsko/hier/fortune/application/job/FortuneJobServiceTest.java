@@ -0,0 +1,205 @@
+package dsko.hier.fortune.application.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.application.FortuneAnalyzeService;
+import dsko.hier.fortune.dto.DailyFortuneResponse;
+import dsko.hier.fortune.dto.FortuneJobResponse;
+import dsko.hier.global.config.FortuneJobProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneJobServiceTest {
+
+    private static final String USER = "user@example.com";
+
+    @Mock
+    private FortuneAnalyzeService fortuneAnalyzeService;
+
+    @Mock
+    private AsyncTaskExecutor fortuneTaskExecutor;
+
+    private FortuneJobProperties properties;
+    private FortuneJobService fortuneJobService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FortuneJobProperties();
+        fortuneJobService = new FortuneJobService(fortuneAnalyzeService, fortuneTaskExecutor, properties);
+    }
+
+    @Test
+    @DisplayName("작업을 등록하면 PENDING 으로 조회되고, 실행이 끝나면 결과 ID 와 함께 COMPLETED 로 조회된다")
+    void submit_thenPoll_completesWithResultId() {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        DailyFortuneResponse response = mock(DailyFortuneResponse.class);
+        when(response.id()).thenReturn(resultId);
+        when(fortuneAnalyzeService.getDailyFortuneOfUser(USER)).thenReturn(response);
+
+        // When
+        FortuneJobResponse submitted = fortuneJobService.submitDailyFortune(USER);
+        FortuneJobResponse pending = fortuneJobService.getJob(submitted.jobId(), USER);
+        runSubmittedTask();
+        FortuneJobResponse completed = fortuneJobService.getJob(submitted.jobId(), USER);
+
+        // Then
+        assertEquals(FortuneJobStatus.PENDING, pending.status());
+        assertEquals(FortuneJobStatus.COMPLETED, completed.status());
+        assertEquals(resultId, completed.resultId());
+    }
+
+    @Test
+    @DisplayName("생성이 실패하면 오류 메시지와 함께 FAILED 로 조회된다")
+    void submit_generationFails_marksFailed() {
+        // Given
+        when(fortuneAnalyzeService.getDailyFortuneOfUser(USER)).thenThrow(new IllegalStateException("AI 오류"));
+
+        // When
+        FortuneJobResponse submitted = fortuneJobService.submitDailyFortune(USER);
+        runSubmittedTask();
+        FortuneJobResponse failed = fortuneJobService.getJob(submitted.jobId(), USER);
+
+        // Then
+        assertEquals(FortuneJobStatus.FAILED, failed.status());
+        assertEquals("AI 오류", failed.errorMessage());
+        assertNull(failed.resultId());
+    }
+
+    @Test
+    @DisplayName("실행 큐가 가득 차면 429 로 거절한다")
+    void submit_queueFull_rejects() {
+        // Given
+        doThrow(new TaskRejectedException("full")).when(fortuneTaskExecutor).execute(any(Runnable.class));
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class, () -> fortuneJobService.submitDailyFortune(USER));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없다")
+    void getJob_otherUser_throws() {
+        // Given
+        FortuneJobResponse submitted = fortuneJobService.submitDailyFortune(USER);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> fortuneJobService.getJob(submitted.jobId(), "other@example.com"));
+    }
+
+    @Test
+    @DisplayName("SSE 구독자는 현재 상태를 먼저 받고, 작업이 끝나면 최종 상태를 받은 뒤 연결이 종료된다")
+    void subscribe_pendingJob_receivesFinalStatusAndCompletes() throws IOException {
+        // Given
+        DailyFortuneResponse response = mock(DailyFortuneResponse.class);
+        when(response.id()).thenReturn(UUID.randomUUID());
+        when(fortuneAnalyzeService.getDailyFortuneOfUser(USER)).thenReturn(response);
+        FortuneJobResponse submitted = fortuneJobService.submitDailyFortune(USER);
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            // When
+            fortuneJobService.subscribe(submitted.jobId(), USER);
+            SseEmitter emitter = emitters.constructed().get(0);
+            verify(emitter, times(1)).send(any(SseEventBuilder.class));
+            runSubmittedTask();
+
+            // Then
+            verify(emitter, times(2)).send(any(SseEventBuilder.class));
+            verify(emitter).complete();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업을 구독하면 최종 상태를 보내고 바로 연결을 종료한다")
+    void subscribe_finishedJob_completesImmediately() {
+        // Given
+        when(fortuneAnalyzeService.getDailyFortuneOfUser(USER)).thenThrow(new IllegalStateException("AI 오류"));
+        FortuneJobResponse submitted = fortuneJobService.submitDailyFortune(USER);
+        runSubmittedTask();
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            // When
+            fortuneJobService.subscribe(submitted.jobId(), USER);
+
+            // Then
+            verify(emitters.constructed().get(0)).complete();
+        }
+    }
+
+    @Test
+    @DisplayName("SSE 연결에 오류가 나면 구독이 해제되어, 작업이 끝나도 그 연결로는 보내지 않는다")
+    void subscribe_emitterError_unsubscribes() throws IOException {
+        // Given
+        DailyFortuneResponse response = mock(DailyFortuneResponse.class);
+        when(response.id()).thenReturn(UUID.randomUUID());
+        when(fortuneAnalyzeService.getDailyFortuneOfUser(USER)).thenReturn(response);
+        FortuneJobResponse submitted = fortuneJobService.submitDailyFortune(USER);
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            fortuneJobService.subscribe(submitted.jobId(), USER);
+            SseEmitter emitter = emitters.constructed().get(0);
+            ArgumentCaptor<Consumer<Throwable>> onError = ArgumentCaptor.captor();
+            verify(emitter).onError(onError.capture());
+
+            // When
+            onError.getValue().accept(new IOException("Broken pipe"));
+            runSubmittedTask();
+
+            // Then
+            verify(emitter, times(1)).send(any(SseEventBuilder.class)); // 구독 시 보낸 현재 상태뿐
+            verify(emitter, never()).complete();
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 작업은 정리되고, 진행 중인 작업은 남는다")
+    void evictFinishedJobs_removesOnlyExpiredFinishedJobs() throws InterruptedException {
+        // Given
+        properties.setResultRetentionMinutes(0);
+        when(fortuneAnalyzeService.getDailyFortuneOfUser(USER)).thenThrow(new IllegalStateException("AI 오류"));
+        FortuneJobResponse finished = fortuneJobService.submitDailyFortune(USER);
+        runSubmittedTask();
+        FortuneJobResponse pending = fortuneJobService.submitTotalFortune(USER);
+        Thread.sleep(5); // 완료 시각이 기준 시각보다 앞서도록
+
+        // When
+        fortuneJobService.evictFinishedJobs();
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> fortuneJobService.getJob(finished.jobId(), USER));
+        assertEquals(FortuneJobStatus.PENDING, fortuneJobService.getJob(pending.jobId(), USER).status());
+    }
+
+    // 실행기에 넘겨진 마지막 작업을 현재 스레드에서 실행
+    private void runSubmittedTask() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(fortuneTaskExecutor, atLeastOnce()).execute(task.capture());
+        task.getValue().run();
+    }
+}
@@ -0,0 +1,163 @@
+package dsko.hier.fortune.application.pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dsko.hier.global.config.AILimiterProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AIConcurrencyLimiterTest {
+
+    private AILimiterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AILimiterProperties();
+        properties.setInitialLimit(2);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(4);
+        properties.setMaxQueue(0);
+        properties.setMaxWait(Duration.ofMillis(50));
+        properties.setTargetLatency(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한도 안의 호출은 결과를 그대로 반환한다")
+    void execute_withinLimit_returnsResult() {
+        // Given
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(properties, meterRegistry);
+
+        // When
+        String result = limiter.execute("daily", () -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("타입별 bulkhead 가 가득 차면 Retry-After 힌트와 함께 거절한다")
+    void execute_bulkheadFull_rejectsWithRetryAfter() throws Exception {
+        // Given
+        properties.setBulkhead(Map.of("face", 1));
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        executor.submit(() -> limiter.execute("face", () -> {
+            started.countDown();
+            await(finish);
+            return "first";
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limiter.execute("face", () -> "second"));
+
+        // Then
+        assertNotNull(exception.getRetryAfterSeconds());
+        assertEquals("ok", limiter.execute("dream", () -> "ok")); // 다른 타입은 영향 없음
+        assertEquals(1.0, meterRegistry.counter("fortune.ai.limiter.rejected", "type", "face", "reason", "queue_full")
+                .count());
+        finish.countDown();
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 한도를 줄이고, 성공한 호출은 한도를 늘린다")
+    void execute_adjustsLimitByOutcome() {
+        // Given
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(properties, meterRegistry);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> limiter.execute("daily", () -> {
+            throw new IllegalStateException("AI 오류");
+        }));
+        double afterFailure = limiter.getLimit();
+        limiter.execute("daily", () -> "ok");
+
+        // Then
+        assertEquals(2 * properties.getBackoffRatio(), afterFailure, 0.0001);
+        assertTrue(limiter.getLimit() > afterFailure);
+    }
+
+    @Test
+    @DisplayName("응답이 긴 타입은 자기 목표 지연 기준으로 판단하므로, 함께 실행되는 오늘의 운세 호출의 한도를 끌어내리지 않는다")
+    void execute_slowTypeWithinItsOwnTarget_keepsLimitUp() throws Exception {
+        // Given
+        properties.setTargetLatency(Duration.ofMillis(50));
+        properties.setTargetLatencyByType(Map.of("weekly", Duration.ofSeconds(5)));
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(properties, meterRegistry);
+        double initialLimit = limiter.getLimit();
+
+        // When
+        Future<String> lifelong = executor.submit(() -> limiter.execute("weekly", () -> sleep(150, "평생 운세")));
+        for (int i = 0; i < 3; i++) {
+            limiter.execute("daily", () -> "오늘의 운세");
+        }
+        double afterDaily = limiter.getLimit();
+        assertEquals("평생 운세", lifelong.get(1, TimeUnit.SECONDS));
+
+        // Then
+        assertTrue(afterDaily > initialLimit);
+        assertTrue(limiter.getLimit() > afterDaily); // 기본 목표(50ms)를 넘겼지만 평생 운세 기준 안이므로 감소하지 않음
+    }
+
+    @Test
+    @DisplayName("스트리밍·묶음 호출은 목표 지연을 넘기거나 실패해도 한도를 조정하지 않는다")
+    void executeLongRunning_doesNotAdjustLimit() {
+        // Given
+        properties.setTargetLatency(Duration.ofMillis(10));
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(properties, meterRegistry);
+        double initialLimit = limiter.getLimit();
+
+        // When
+        limiter.executeLongRunning("daily", () -> sleep(50, "묶음 응답"));
+        assertThrows(IllegalStateException.class, () -> limiter.executeLongRunning("weekly", () -> {
+            throw new IllegalStateException("스트림 오류");
+        }));
+
+        // Then
+        assertEquals(initialLimit, limiter.getLimit(), 0.0001);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static String sleep(long millis, String result) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
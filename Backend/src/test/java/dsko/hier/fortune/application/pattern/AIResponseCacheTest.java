@@ -0,0 +1,73 @@
+package dsko.hier.fortune.application.pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dsko.hier.global.config.AIResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class AIResponseCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private AIResponseCache aiResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        AIResponseCacheProperties properties = new AIResponseCacheProperties();
+        properties.setTtl(Map.of("DREAM", Duration.ofHours(6)));
+        aiResponseCache = new AIResponseCache(properties, stringRedisTemplate, new ObjectMapper(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 AI 응답을 생성해 반환하고, 같은 입력은 로컬 캐시에서 반환한다")
+    void getOrGenerate_redisDown_fallsBackToGenerator() {
+        // Given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenThrow(new QueryTimeoutException("redis timeout"));
+        doThrow(new QueryTimeoutException("redis timeout"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        AtomicInteger generated = new AtomicInteger();
+        Map<String, Object> params = Map.of(AIResponseCache.NAME_PARAM, "홍길동", "dream", "용꿈");
+
+        // When
+        Result first = aiResponseCache.getOrGenerate("DREAM", "", "prompt", params, Result.class, anonymous -> {
+            generated.incrementAndGet();
+            return new Result(anonymous.get(AIResponseCache.NAME_PARAM) + "님의 꿈 해몽");
+        });
+        Result second = aiResponseCache.getOrGenerate("DREAM", "", "prompt", params, Result.class, anonymous -> {
+            generated.incrementAndGet();
+            return new Result("unused");
+        });
+
+        // Then
+        assertEquals("홍길동님의 꿈 해몽", first.text());
+        assertEquals(first, second);
+        assertEquals(1, generated.get());
+    }
+
+    record Result(String text) {
+    }
+}
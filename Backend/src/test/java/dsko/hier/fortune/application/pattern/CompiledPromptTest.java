@@ -0,0 +1,56 @@
+package dsko.hier.fortune.application.pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dsko.hier.fortune.application.PromptSupplier;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+class CompiledPromptTest {
+
+    private final Map<String, Object> params = Map.of(
+            "name", "홍길동",
+            "birthYear", 1995,
+            "birthMonth", 3,
+            "birthDay", 14,
+            "birthTime", "오시",
+            "sex", "MALE"
+    );
+
+    @Test
+    @DisplayName("미리 컴파일한 템플릿은 PromptTemplate 과 같은 결과를 렌더링한다")
+    void render_sameAsPromptTemplate() {
+        // Given
+        CompiledPrompt compiled = CompiledPrompt.compile(PromptSupplier.daily());
+
+        // When
+        String rendered = compiled.render(params);
+
+        // Then
+        assertEquals(new PromptTemplate(PromptSupplier.daily()).create(params).getContents(), rendered);
+    }
+
+    @Test
+    @DisplayName("템플릿의 변수 이름을 추출한다")
+    void compile_extractsVariableNames() {
+        // When
+        CompiledPrompt compiled = CompiledPrompt.compile("이름 : {name}, 생년 : {birthYear}, 다시 {name}");
+
+        // Then
+        assertEquals(Set.of("name", "birthYear"), compiled.getVariableNames());
+    }
+
+    @Test
+    @DisplayName("변수 값이 없으면 예외가 발생한다")
+    void render_missingVariable_throwsException() {
+        // Given
+        CompiledPrompt compiled = CompiledPrompt.compile("이름 : {name}");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> compiled.render(Map.of()));
+    }
+}
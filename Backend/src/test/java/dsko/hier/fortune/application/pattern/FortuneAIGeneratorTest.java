@@ -0,0 +1,66 @@
+package dsko.hier.fortune.application.pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.application.PromptSupplier;
+import dsko.hier.fortune.dto.ai.AIDailyFortuneResponse;
+import dsko.hier.global.config.AILimiterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneAIGeneratorTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChatClient fortuneChatClient;
+
+    @Mock
+    private AIResponseCache aiResponseCache;
+
+    private FortuneAIGenerator fortuneAIGenerator;
+
+    @BeforeEach
+    void setUp() {
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(new AILimiterProperties(), new SimpleMeterRegistry());
+        fortuneAIGenerator = new FortuneAIGenerator(fortuneChatClient, new PromptTemplateRegistry(), aiResponseCache,
+                limiter);
+    }
+
+    @Test
+    @DisplayName("묶음 응답에서 요청하지 않은 key 는 버리고, 중복된 key 는 처음 것만 쓰며, 빠진 key 는 결과에 넣지 않는다")
+    void callAIBatch_filtersUnknownAndDuplicateKeys_omitsMissingKeys() {
+        // Given
+        Map<String, Map<String, Object>> paramsByKey = new LinkedHashMap<>();
+        paramsByKey.put("u1", Map.of("name", "홍길동"));
+        paramsByKey.put("u2", Map.of("name", "김철수"));
+        paramsByKey.put("u3", Map.of("name", "이영희"));
+        when(fortuneChatClient.prompt().user(anyString()).call().content()).thenReturn("""
+                {"results": [
+                  {"key": "u1", "fortune": {"overallRating": 4, "overallSummary": "첫 번째"}},
+                  {"key": "u1", "fortune": {"overallRating": 1, "overallSummary": "중복"}},
+                  {"key": "u9", "fortune": {"overallRating": 5, "overallSummary": "요청하지 않음"}},
+                  {"key": "u3", "fortune": {"overallRating": 3, "overallSummary": "세 번째"}}
+                ]}
+                """);
+
+        // When
+        Map<String, AIDailyFortuneResponse> results = fortuneAIGenerator.callAIBatch("daily", PromptSupplier.daily(),
+                paramsByKey, AIDailyFortuneResponse.class);
+
+        // Then
+        assertThat(results).containsOnlyKeys("u1", "u3"); // 빠진 u2 는 호출한 쪽에서 개별 생성
+        assertThat(results.get("u1").overallSummary()).isEqualTo("첫 번째");
+        assertThat(results.get("u3").overallSummary()).isEqualTo("세 번째");
+    }
+}
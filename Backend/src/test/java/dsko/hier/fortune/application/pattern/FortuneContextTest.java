@@ -0,0 +1,94 @@
+package dsko.hier.fortune.application.pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.application.analytics.FortuneMinuteBuckets;
+import dsko.hier.fortune.application.strategy.FortuneStrategy;
+import dsko.hier.global.redis.RedisHashService;
+import dsko.hier.global.redis.RedisPipelineExecutor;
+import dsko.hier.security.domain.User;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneContextTest {
+
+    @Mock
+    private UserValidator userValidator;
+
+    @Mock
+    private RedisHashService redisHashService;
+
+    @Mock
+    private FortuneMinuteBuckets minuteBuckets;
+
+    @Mock
+    private RedisPipelineExecutor redisPipeline;
+
+    @Mock
+    private FortuneStrategy<String> strategy;
+
+    @InjectMocks
+    private FortuneContext fortuneContext;
+
+    private final User user = mock(User.class);
+
+    @BeforeEach
+    void setUp() {
+        when(userValidator.validate("user@example.com")).thenReturn(user);
+        when(strategy.getRedisType()).thenReturn(RedisHashService.FACE_TYPE);
+        when(strategy.execute(user, null)).thenReturn("result");
+    }
+
+    @Test
+    @DisplayName("전체 카운트와 분 단위 통계를 하나의 파이프라인으로 기록한다")
+    @SuppressWarnings("unchecked")
+    void recordsUsageInSinglePipeline() {
+        // Given
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        when(redisPipeline.execute(any())).thenAnswer(invocation -> {
+            invocation.<Consumer<StringRedisConnection>>getArgument(0).accept(connection);
+            return List.of();
+        });
+
+        // When
+        String result = fortuneContext.getFortune("user@example.com", strategy, null);
+
+        // Then
+        assertEquals("result", result);
+        verify(redisPipeline).execute(any(Consumer.class));
+        verify(redisHashService).incrementFortuneCount(connection, RedisHashService.FACE_TYPE);
+        verify(minuteBuckets).record(eq(connection), eq(RedisHashService.FACE_TYPE), anyLong());
+        verify(redisHashService, never()).incrementFortuneCount(RedisHashService.FACE_TYPE);
+    }
+
+    @Test
+    @DisplayName("통계 기록이 실패해도 이미 저장된 운세 결과를 반환하고 횟수를 환불하지 않는다")
+    void usageRecordingFailureDoesNotFailFortune() {
+        // Given
+        when(redisPipeline.execute(any())).thenThrow(new QueryTimeoutException("redis timeout"));
+
+        // When
+        String result = fortuneContext.getFortune("user@example.com", strategy, null);
+
+        // Then
+        assertEquals("result", result);
+        verify(userValidator, never()).refund("user@example.com");
+    }
+}
@@ -0,0 +1,142 @@
+package dsko.hier.fortune.application.pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import dsko.hier.global.config.FortuneResultCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneResultCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private FortuneResultCache resultCache;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        resultCache = new FortuneResultCache(new FortuneResultCacheProperties(), stringRedisTemplate,
+                new ObjectMapper(), new SimpleMeterRegistry(), listenerContainer);
+    }
+
+    @Test
+    @DisplayName("처음 조회는 DB에서 읽어 APIResponse JSON으로 저장하고, 다음 조회는 로컬 캐시에서 반환한다")
+    void getOrLoad_miss_thenLocalHit() {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        byte[] first = resultCache.getOrLoad(ResultType.DREAM, resultId, () -> {
+            loads.incrementAndGet();
+            return Map.of("id", resultId.toString());
+        });
+        byte[] second = resultCache.getOrLoad(ResultType.DREAM, resultId, () -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertArrayEquals(first, second);
+        assertEquals("{\"code\":200,\"message\":\"OK\",\"data\":{\"id\":\"" + resultId + "\"}}",
+                new String(first, StandardCharsets.UTF_8));
+        verify(valueOperations).set(eq("fortune:result:DREAM:" + resultId), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis에 있으면 DB를 조회하지 않는다")
+    void getOrLoad_redisHit_skipsLoader() {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        String cached = "{\"code\":200,\"message\":\"OK\",\"data\":{}}";
+        when(valueOperations.get("fortune:result:FACE:" + resultId)).thenReturn(cached);
+
+        // When
+        byte[] json = resultCache.getOrLoad(ResultType.FACE, resultId, () -> {
+            throw new AssertionError("DB를 조회하면 안 됩니다.");
+        });
+
+        // Then
+        assertEquals(cached, new String(json, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("생성 시점에 넣은 결과는 DB 조회 없이 반환되고, 없는 결과의 예외는 캐시하지 않는다")
+    void put_thenGet_andMissingNotCached() {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        resultCache.put(ResultType.LIFE_LONG, resultId, Map.of("id", resultId.toString()));
+        UUID missingId = UUID.randomUUID();
+
+        // When
+        byte[] json = resultCache.getOrLoad(ResultType.LIFE_LONG, resultId, () -> {
+            throw new AssertionError("DB를 조회하면 안 됩니다.");
+        });
+
+        // Then
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains(resultId.toString()));
+        assertThrows(IllegalArgumentException.class, () -> resultCache.getOrLoad(ResultType.LIFE_LONG, missingId,
+                () -> {
+                    throw new IllegalArgumentException("없음");
+                }));
+        verify(valueOperations, never()).set(eq("fortune:result:LIFE_LONG:" + missingId), anyString(),
+                any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("삭제된 결과는 Redis 와 로컬 캐시에서 지워져 다음 조회는 DB 를 거치고, 다른 서버에도 알린다")
+    void evict_removesBothTiersAndPublishes() {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        resultCache.put(ResultType.DREAM, resultId, Map.of("id", resultId.toString()));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        resultCache.evict(ResultType.DREAM, resultId);
+
+        // Then
+        verify(stringRedisTemplate).delete("fortune:result:DREAM:" + resultId);
+        verify(stringRedisTemplate).convertAndSend(FortuneResultCache.EVICTION_CHANNEL,
+                "fortune:result:DREAM:" + resultId);
+        assertThrows(IllegalArgumentException.class, () -> resultCache.getOrLoad(ResultType.DREAM, resultId, () -> {
+            loads.incrementAndGet();
+            throw new IllegalArgumentException("삭제된 결과");
+        }));
+        assertEquals(1, loads.get());
+        verify(valueOperations, times(1)).get("fortune:result:DREAM:" + resultId);
+    }
+}
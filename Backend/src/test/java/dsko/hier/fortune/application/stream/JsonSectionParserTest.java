@@ -0,0 +1,97 @@
+package dsko.hier.fortune.application.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dsko.hier.fortune.application.stream.JsonSectionParser.Section;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonSectionParserTest {
+
+    @Test
+    @DisplayName("섹션이 여러 조각에 나뉘어 들어와도 값이 닫히는 조각에서 한 번만 반환한다")
+    void feed_sectionSplitAcrossChunks_emitsWhenClosed() {
+        // Given
+        JsonSectionParser parser = new JsonSectionParser();
+
+        // When
+        List<Section> first = parser.feed("{\"perso");
+        List<Section> second = parser.feed("nality\": {\"summ");
+        List<Section> third = parser.feed("ary\": \"밝음\"}");
+        List<Section> fourth = parser.feed(", \"wealth\": {\"summary\": \"안정\"}}");
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(third).isEmpty(); // 다음 구분자(, 또는 })가 와야 섹션이 끝난 것으로 판단
+        assertThat(fourth).containsExactly(
+                new Section("personality", "{\"summary\": \"밝음\"}"),
+                new Section("wealth", "{\"summary\": \"안정\"}"));
+    }
+
+    @Test
+    @DisplayName("한 글자씩 들어와도 전체를 한 번에 넣은 것과 같은 섹션을 반환한다")
+    void feed_charByChar_sameAsWhole() {
+        // Given
+        String json = "{\"a\": {\"x\": 1}, \"b\": [1, 2, {\"y\": \"}\"}], \"c\": \"끝\"}";
+        JsonSectionParser whole = new JsonSectionParser();
+        JsonSectionParser split = new JsonSectionParser();
+
+        // When
+        List<Section> expected = whole.feed(json);
+        List<Section> actual = new ArrayList<>();
+        json.chars().forEach(c -> actual.addAll(split.feed(String.valueOf((char) c))));
+
+        // Then
+        assertThat(actual).isEqualTo(expected).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("문자열 안의 이스케이프된 따옴표와 중괄호, 쉼표는 구조로 보지 않는다")
+    void feed_escapedQuotesAndBracesInStrings_ignored() {
+        // Given
+        JsonSectionParser parser = new JsonSectionParser();
+        String advice = "{\"text\": \"그는 \\\"괜찮다}\\\" 고 말했다, {웃으며}\"}";
+
+        // When
+        List<Section> sections = parser.feed("{\"advice\": " + advice + ", \"path\": \"C:\\\\\"}");
+
+        // Then
+        assertThat(sections).containsExactly(
+                new Section("advice", advice),
+                new Section("path", "\"C:\\\\\""));
+    }
+
+    @Test
+    @DisplayName("중첩된 객체와 배열 안의 키는 섹션으로 나누지 않고 최상위 값 전체를 하나의 섹션으로 반환한다")
+    void feed_nestedObjects_emitsTopLevelOnly() {
+        // Given
+        JsonSectionParser parser = new JsonSectionParser();
+        String career = "{\"early\": {\"age\": \"20대\", \"tips\": [{\"k\": \"v\"}, {\"k\": \"w\"}]}, \"late\": {}}";
+
+        // When
+        List<Section> sections = parser.feed("{\"career\": " + career + ", \"score\": 4}");
+
+        // Then
+        assertThat(sections).containsExactly(
+                new Section("career", career),
+                new Section("score", "4"));
+    }
+
+    @Test
+    @DisplayName("스트림이 중간에 끊기면 완성된 섹션만 반환하고 끊긴 섹션은 내보내지 않는다")
+    void feed_truncatedStream_emitsOnlyCompletedSections() {
+        // Given
+        JsonSectionParser parser = new JsonSectionParser();
+
+        // When
+        List<Section> sections = parser.feed("{\"personality\": {\"summary\": \"밝음\"}, \"wealth\": {\"summary\": \"안");
+        List<Section> afterTruncation = parser.feed("");
+
+        // Then
+        assertThat(sections).containsExactly(new Section("personality", "{\"summary\": \"밝음\"}"));
+        assertThat(afterTruncation).isEmpty();
+    }
+}
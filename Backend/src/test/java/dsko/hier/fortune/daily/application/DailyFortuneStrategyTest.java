@@ -0,0 +1,108 @@
+package dsko.hier.fortune.daily.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.application.pattern.FortuneAIGenerator;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
+import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
+import dsko.hier.fortune.domain.dailyDomain.DailyFortuneRepository;
+import dsko.hier.fortune.dto.ai.AIDailyFortuneResponse;
+import dsko.hier.security.domain.BirthInfo;
+import dsko.hier.security.domain.BirthTime;
+import dsko.hier.security.domain.Sex;
+import dsko.hier.security.domain.User;
+import dsko.hier.security.domain.UserRole;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class DailyFortuneStrategyTest {
+
+    @Mock
+    private FortuneAIGenerator fortuneAIGenerator;
+
+    @Mock
+    private DailyFortuneRepository dailyFortuneRepository;
+
+    @Mock
+    private FortuneResultCache resultCache;
+
+    private DailyFortuneStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new DailyFortuneStrategy(fortuneAIGenerator, dailyFortuneRepository, resultCache);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 받은 AI 응답으로 한 건씩 저장하고, 저장된 사용자만 반환한다")
+    void executeBatch_saveAllFails_savesOneByOneWithoutRegenerating() {
+        // Given
+        User first = user("first@example.com");
+        User second = user("second@example.com");
+        doReturn(Map.of("u1", response("첫 번째"), "u2", response("두 번째")))
+                .when(fortuneAIGenerator).callAIBatch(any(), any(), any(), any());
+        when(dailyFortuneRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+        when(dailyFortuneRepository.save(any(DailyFortune.class))).thenAnswer(invocation -> {
+            DailyFortune dailyFortune = invocation.getArgument(0);
+            if (dailyFortune.getUser() == second) {
+                throw new DataIntegrityViolationException("row");
+            }
+            return dailyFortune;
+        });
+
+        // When
+        Set<User> saved = strategy.executeBatch(List.of(first, second));
+
+        // Then
+        assertThat(saved).containsExactly(first);
+        verify(fortuneAIGenerator, times(1)).callAIBatch(any(), any(), any(), any());
+        verify(dailyFortuneRepository, times(2)).save(any(DailyFortune.class));
+    }
+
+    @Test
+    @DisplayName("AI 응답에서 빠진 사용자는 저장하지 않고 반환값에서도 빼서, 호출한 쪽이 개별 생성하도록 한다")
+    void executeBatch_missingKey_excludesUserFromSaved() {
+        // Given
+        User first = user("first@example.com");
+        User second = user("second@example.com");
+        doReturn(Map.of("u1", response("첫 번째"))).when(fortuneAIGenerator).callAIBatch(any(), any(), any(), any());
+        when(dailyFortuneRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Set<User> saved = strategy.executeBatch(List.of(first, second));
+
+        // Then
+        assertThat(saved).containsExactly(first);
+        verify(dailyFortuneRepository, never()).save(any(DailyFortune.class));
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .nickname("홍길동")
+                .sex(Sex.MALE)
+                .role(UserRole.USER)
+                .birthInfo(new BirthInfo(1990, 1, 1, BirthTime.OH))
+                .build();
+    }
+
+    private static AIDailyFortuneResponse response(String summary) {
+        return new AIDailyFortuneResponse(4, summary, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,113 @@
+package dsko.hier.fortune.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dsko.hier.fortune.domain.dailyDomain.DailyFortune;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import dsko.hier.fortune.dto.ai.AIDailyFortuneResponse;
+import dsko.hier.global.config.JpaConfig;
+import dsko.hier.security.domain.BirthInfo;
+import dsko.hier.security.domain.BirthTime;
+import dsko.hier.security.domain.Sex;
+import dsko.hier.security.domain.User;
+import dsko.hier.security.domain.UserRole;
+import dsko.hier.security.infra.UserJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, DailyFortuneRepositoryImpl.class, DailyFortuneQueryDsl.class,
+        FortuneResultIndexRepositoryImpl.class, FortuneResultIndexQueryDsl.class})
+class FortuneResultIndexJpaTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private FortuneResultIndexJpaRepository resultIndexJpaRepository;
+
+    @Autowired
+    private DailyFortuneRepositoryImpl dailyFortuneRepository;
+
+    @Autowired
+    private FortuneResultIndexRepositoryImpl resultIndexRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(User.builder()
+                .email("user@example.com")
+                .nickname("홍길동")
+                .sex(Sex.MALE)
+                .role(UserRole.USER)
+                .birthInfo(new BirthInfo(1990, 1, 1, BirthTime.OH))
+                .build());
+    }
+
+    @Test
+    @DisplayName("결과가 있는 사용자를 삭제하면 결과 목록 인덱스도 함께 삭제된다")
+    void deleteUser_withResults_removesIndexRows() {
+        // Given
+        dailyFortuneRepository.save(AIDailyFortuneResponse.toEntity(user, dailyResponse()));
+        em.flush();
+        em.clear();
+        assertThat(resultIndexJpaRepository.count()).isEqualTo(1);
+
+        // When
+        userJpaRepository.delete(userJpaRepository.findById(user.getId()).orElseThrow());
+        em.flush();
+
+        // Then
+        assertThat(resultIndexJpaRepository.count()).isZero();
+        assertThat(userJpaRepository.findById(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사전 생성된 오늘의 운세는 사용자가 받아 갈 때 결과 목록에 추가되고, 되돌리면 빠진다")
+    void precomputedDailyFortune_indexedOnlyWhenClaimed() {
+        // Given
+        DailyFortune precomputed = AIDailyFortuneResponse.toEntity(user, dailyResponse());
+        precomputed.markPrecomputed();
+        dailyFortuneRepository.saveAll(List.of(precomputed));
+        em.flush();
+        assertThat(page()).isEmpty();
+
+        // When
+        boolean claimed = dailyFortuneRepository.claimPrecomputed(precomputed);
+        em.flush();
+
+        // Then
+        assertThat(claimed).isTrue();
+        assertThat(page()).extracting(FortuneResultIndex::getResultId, FortuneResultIndex::getResultType)
+                .containsExactly(tuple(precomputed.getId(), ResultType.DAILY_FORTUNE));
+
+        // When: 차감 실패로 되돌림
+        dailyFortuneRepository.restorePrecomputed(precomputed);
+        em.flush();
+
+        // Then
+        assertThat(page()).isEmpty();
+    }
+
+    private List<FortuneResultIndex> page() {
+        return resultIndexRepository.findPageByUserEmail(user.getEmail(), null, null, 10);
+    }
+
+    private static AIDailyFortuneResponse dailyResponse() {
+        return new AIDailyFortuneResponse(4, "좋은 하루", null, null, null, null, null, null, null, null);
+    }
+}
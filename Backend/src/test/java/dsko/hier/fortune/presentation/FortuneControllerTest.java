@@ -0,0 +1,80 @@
+package dsko.hier.fortune.presentation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dsko.hier.fortune.application.FortuneAnalyzeService;
+import dsko.hier.fortune.application.pattern.FortuneResultCache;
+import dsko.hier.fortune.application.stream.FortuneStreamService;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneControllerTest {
+
+    @Mock
+    private FortuneAnalyzeService service;
+
+    @Mock
+    private FortuneStreamService streamService;
+
+    @Mock
+    private FortuneResultCache resultCache;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FortuneController(service, streamService, resultCache))
+                .build();
+    }
+
+    @Test
+    @DisplayName("ID로 조회한 결과에는 ID 기반 ETag 와 immutable 캐시 헤더가 붙는다")
+    void getResultById_setsValidators() throws Exception {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        String body = "{\"code\":200,\"message\":\"OK\",\"data\":{}}";
+        when(resultCache.getOrLoad(eq(ResultType.DREAM), eq(resultId), any()))
+                .thenReturn(body.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(get("/api/fortune/dream/{resultId}", resultId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1-DREAM-" + resultId + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, Matchers.containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, Matchers.containsString("private")))
+                .andExpect(content().string(body));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 ETag 와 같으면 캐시를 조회하지 않고 304를 반환한다")
+    void getResultById_notModified() throws Exception {
+        // Given
+        UUID resultId = UUID.randomUUID();
+
+        // When & Then
+        mockMvc.perform(get("/api/fortune/face/{resultId}", resultId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1-FACE-" + resultId + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verifyNoInteractions(resultCache);
+    }
+}
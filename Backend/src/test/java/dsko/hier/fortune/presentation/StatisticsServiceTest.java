@@ -0,0 +1,85 @@
+package dsko.hier.fortune.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndex;
+import dsko.hier.fortune.domain.resultIndexDomain.FortuneResultIndexRepository;
+import dsko.hier.fortune.dto.AllOfMyResultResponse;
+import dsko.hier.fortune.dto.AllOfMyResultResponse.ResultType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private FortuneResultIndexRepository resultIndexRepository;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    @Test
+    @DisplayName("요청 크기보다 한 건 더 조회되면 다음 커서를 내려주고, 그 커서로 이어서 조회한다")
+    void findAllOfMyResult_hasNext_returnsCursor() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        FortuneResultIndex first = FortuneResultIndex.of(ResultType.DAILY_FORTUNE, UUID.randomUUID(), null, now);
+        FortuneResultIndex second = FortuneResultIndex.of(ResultType.DREAM, UUID.randomUUID(), null, now.minusHours(1));
+        FortuneResultIndex third = FortuneResultIndex.of(ResultType.FACE, UUID.randomUUID(), null, now.minusHours(2));
+        when(resultIndexRepository.findPageByUserEmail(eq(EMAIL), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, third));
+
+        // When
+        AllOfMyResultResponse response = statisticsService.findAllOfMyResult(EMAIL, null, 2);
+
+        // Then
+        assertThat(response.results()).hasSize(2);
+        assertThat(response.results().get(1).resultId()).isEqualTo(second.getResultId());
+        assertThat(response.hasNext()).isTrue();
+
+        statisticsService.findAllOfMyResult(EMAIL, response.nextCursor(), 2);
+        verify(resultIndexRepository).findPageByUserEmail(EMAIL, second.getCreatedAt(), second.getResultId(), 3);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에서는 다음 커서가 없다")
+    void findAllOfMyResult_lastPage_noCursor() {
+        // Given
+        FortuneResultIndex only = FortuneResultIndex.of(ResultType.LIFE_LONG, UUID.randomUUID(), null,
+                LocalDateTime.now());
+        when(resultIndexRepository.findPageByUserEmail(eq(EMAIL), any(), any(), anyInt()))
+                .thenReturn(List.of(only));
+
+        // When
+        AllOfMyResultResponse response = statisticsService.findAllOfMyResult(EMAIL, null, 20);
+
+        // Then
+        assertThat(response.results()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException을 던진다")
+    void findAllOfMyResult_invalidCursor_throws() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> statisticsService.findAllOfMyResult(EMAIL, "not-a-cursor", 20));
+    }
+}
@@ -0,0 +1,117 @@
+package dsko.hier.global.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.security.domain.UserRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RedisUserCountServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RedisUserCountService redisUserCountService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("키가 있으면 DB를 조회하지 않고 Redis 값을 반환한다")
+    void getValue_existingKey() {
+        // Given
+        when(valueOperations.get("user_count:")).thenReturn("42");
+
+        // When
+        Integer value = redisUserCountService.getValue();
+
+        // Then
+        assertEquals(42, value);
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("키가 없으면 DB 사용자 수로 SETNX 초기화하고, 다른 서버가 먼저 초기화했으면 그 값을 사용한다")
+    void getValue_missingKey_bootstrapsWithSetNx() {
+        // Given
+        when(valueOperations.get("user_count:")).thenReturn(null, "11");
+        when(userRepository.count()).thenReturn(10L);
+        when(valueOperations.setIfAbsent("user_count:", "10")).thenReturn(false);
+
+        // When
+        Integer value = redisUserCountService.getValue();
+
+        // Then
+        assertEquals(11, value);
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("증가 시 키가 없으면 1부터 세지 않고 DB 기준으로 초기화한다")
+    void increment_missingKey_bootstraps() {
+        // Given
+        when(stringRedisTemplate.execute(anyScript(), anyList())).thenReturn(-1L);
+        when(userRepository.count()).thenReturn(7L);
+        when(valueOperations.setIfAbsent("user_count:", "7")).thenReturn(true);
+
+        // When
+        redisUserCountService.increment();
+
+        // Then
+        verify(valueOperations).setIfAbsent("user_count:", "7");
+    }
+
+    @Test
+    @DisplayName("보정 작업은 DB 와 다른 값을 덮어쓰고, 자신이 잡은 락만 해제한다")
+    void reconcile_fixesDrift() {
+        // Given
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq("user_count:reconcile-lock"), token.capture(), any(Duration.class)))
+                .thenReturn(true);
+        when(userRepository.count()).thenReturn(100L);
+        when(valueOperations.get("user_count:")).thenReturn("97");
+
+        // When
+        redisUserCountService.reconcile();
+
+        // Then
+        verify(valueOperations).set("user_count:", "100");
+        verify(stringRedisTemplate).execute(anyScript(), eq(List.of("user_count:reconcile-lock")),
+                eq(token.getValue()));
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    // 타입이 있는 매처 (any(RedisScript.class) 는 unchecked 경고)
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
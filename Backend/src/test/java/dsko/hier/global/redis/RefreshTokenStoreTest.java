@@ -0,0 +1,88 @@
+package dsko.hier.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.global.redis.RefreshTokenStore.RotationResult;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @InjectMocks
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("재발급은 패밀리, 사용자 버전, 전역 세대 키를 스크립트 한 번으로 확인한다")
+    void rotate_runsSingleScript() {
+        // Given
+        when(stringRedisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any()))
+                .thenReturn("ROTATED");
+
+        // When
+        RotationResult result = refreshTokenStore.rotate("user@example.com", "family-1", "jti-1", "jti-2",
+                Duration.ofSeconds(60));
+
+        // Then
+        assertThat(result).isEqualTo(RotationResult.ROTATED);
+        verify(stringRedisTemplate, times(1)).execute(anyScript(),
+                eq(List.of("refresh:family:family-1", "refresh:user-version:user@example.com", "refresh:generation")),
+                eq("user@example.com"), eq("jti-1"), eq("jti-2"), eq("60000"));
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 다시 오면 재사용으로 판단한다")
+    void rotate_detectsReuse() {
+        // Given
+        when(stringRedisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any()))
+                .thenReturn("REUSED");
+
+        // When
+        RotationResult result = refreshTokenStore.rotate("user@example.com", "family-1", "jti-old", "jti-2",
+                Duration.ofSeconds(60));
+
+        // Then
+        assertThat(result).isEqualTo(RotationResult.REUSED);
+    }
+
+    @Test
+    @DisplayName("사용자 폐기와 전체 폐기는 카운터 증가 한 번으로 처리한다")
+    void revoke_bumpsCounters() {
+        // Given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        refreshTokenStore.revokeUser("user@example.com");
+        refreshTokenStore.revokeAll();
+
+        // Then
+        verify(valueOperations, times(1)).increment("refresh:user-version:user@example.com");
+        verify(valueOperations, times(1)).increment("refresh:generation");
+    }
+
+    // 타입이 있는 매처 (any(RedisScript.class) 는 unchecked 경고)
+    private static RedisScript<String> anyScript() {
+        return any();
+    }
+}
@@ -0,0 +1,177 @@
+package dsko.hier.global.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.global.config.SingleFlightProperties;
+import dsko.hier.global.exception.TooManyRequestsException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightServiceTest {
+
+    private static final String LEASE_KEY = "fortune:single-flight:daily:user";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SingleFlightProperties properties;
+    private SingleFlightService singleFlightService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SingleFlightProperties();
+        properties.setPollIntervalMillis(10);
+        singleFlightService = new SingleFlightService(stringRedisTemplate, properties);
+        executor = Executors.newCachedThreadPool();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 서버의 동시 요청은 먼저 들어온 생성 작업 하나의 결과를 함께 받는다")
+    void execute_sameJvm_coalescesIntoOneGeneration() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlightService.execute("daily:user", Optional::empty, () -> {
+            generations.incrementAndGet();
+            generating.countDown();
+            await(finish);
+            return "운세";
+        }));
+        assertTrue(generating.await(1, TimeUnit.SECONDS));
+
+        // When
+        Future<String> follower = executor.submit(() -> singleFlightService.execute("daily:user", Optional::empty, () -> {
+            generations.incrementAndGet();
+            return "중복 생성";
+        }));
+        Thread.sleep(50); // follower 가 진행 중인 작업에 합류할 시간
+        finish.countDown();
+
+        // Then
+        assertEquals("운세", leader.get(1, TimeUnit.SECONDS));
+        assertEquals("운세", follower.get(1, TimeUnit.SECONDS));
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    @DisplayName("같은 서버에서 생성 작업이 실패하면 합류한 요청도 같은 예외를 받고, 리스는 자신의 토큰으로 해제한다")
+    void execute_sameJvmLeaderFails_propagatesToFollowers() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        IllegalStateException failure = new IllegalStateException("AI 오류");
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlightService.<String>execute("daily:user", Optional::empty,
+                () -> {
+                    generating.countDown();
+                    await(finish);
+                    throw failure;
+                }));
+        assertTrue(generating.await(1, TimeUnit.SECONDS));
+
+        // When
+        Future<String> follower = executor.submit(() -> singleFlightService.execute("daily:user", Optional::empty,
+                () -> "중복 생성"));
+        Thread.sleep(50);
+        finish.countDown();
+
+        // Then
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(1, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(1, TimeUnit.SECONDS)).getCause());
+        verify(stringRedisTemplate).execute(anyScript(), eq(List.of(LEASE_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 리스 보유자가 실패해 리스가 풀리면, 기다리던 요청이 리스를 이어받아 직접 생성한다")
+    void execute_otherServerHolderFails_waiterTakesOverLease() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false, false, true);
+
+        // When
+        String result = singleFlightService.execute("daily:user", Optional::empty, () -> "직접 생성");
+
+        // Then
+        assertEquals("직접 생성", result);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 생성을 끝내면 저장된 결과를 조회해 반환한다")
+    void execute_otherServerCompletes_returnsStoredResult() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger lookups = new AtomicInteger();
+
+        // When
+        String result = singleFlightService.execute("daily:user",
+                () -> lookups.incrementAndGet() < 3 ? Optional.empty() : Optional.of("저장된 운세"),
+                () -> "중복 생성");
+
+        // Then
+        assertEquals("저장된 운세", result);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 리스도 결과도 얻지 못하면 429 로 실패한다")
+    void execute_waitTimeout_throwsTooManyRequests() {
+        // Given
+        properties.setWaitTimeoutSeconds(0);
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class,
+                () -> singleFlightService.execute("daily:user", Optional::empty, () -> "중복 생성"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 타입이 있는 매처 (any(RedisScript.class) 는 unchecked 경고)
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
@@ -0,0 +1,109 @@
+package dsko.hier.global.redis;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.global.config.TokenBlacklistProperties;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisPipelineExecutor redisPipeline;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklistCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TokenBlacklistCache(stringRedisTemplate, redisPipeline, listenerContainer,
+                new TokenBlacklistProperties());
+    }
+
+    @Test
+    @DisplayName("필터를 만들기 전에는 모든 토큰을 Redis에서 확인하도록 한다")
+    void mightBeRevoked_beforeFirstResync() {
+        // When & Then
+        assertTrue(cache.mightBeRevoked("any-jti"));
+    }
+
+    @Test
+    @DisplayName("Redis 폐기 목록으로 필터를 만들면 목록에 있는 jti만 Redis 확인 대상이 된다")
+    void resync_buildsFilterFromIndex() {
+        // Given
+        backfillDone();
+        Set<String> revoked = new LinkedHashSet<>(List.of("revoked-1", "revoked-2"));
+        when(redisPipeline.execute(any())).thenReturn(List.of(0L, revoked));
+
+        // When
+        cache.resync();
+
+        // Then
+        assertTrue(cache.mightBeRevoked("revoked-1"));
+        assertTrue(cache.mightBeRevoked("revoked-2"));
+        long falsePositives = IntStream.range(0, 1000)
+                .filter(i -> cache.mightBeRevoked(UUID.randomUUID().toString()))
+                .count();
+        assertTrue(falsePositives < 50, "오탐이 너무 많음: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("pub/sub으로 받은 jti는 필터를 다시 만든 뒤에도 유지된다")
+    void resync_keepsRecentlyReceivedRevocations() {
+        // Given
+        backfillDone();
+        when(redisPipeline.execute(any())).thenReturn(List.of(0L, Set.of()));
+        cache.resync();
+        cache.register("revoked-now", 60_000);
+
+        // When: index 조회 시점에 아직 반영되지 않은 경우
+        cache.resync();
+
+        // Then
+        assertTrue(cache.mightBeRevoked("revoked-now"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 갱신에 실패하면 기존 필터를 계속 사용한다")
+    void resync_failureKeepsPreviousFilter() {
+        // Given
+        backfillDone();
+        when(redisPipeline.execute(any()))
+                .thenReturn(List.of(0L, Set.of("revoked-1")))
+                .thenThrow(new QueryTimeoutException("redis timeout"));
+        cache.resync();
+
+        // When
+        cache.resync();
+
+        // Then
+        assertTrue(cache.mightBeRevoked("revoked-1"));
+        assertFalse(cache.mightBeRevoked("not-revoked"));
+    }
+
+    // 기존 blacklist:* 키 이전은 이미 끝난 상태
+    private void backfillDone() {
+        when(stringRedisTemplate.hasKey("token-blacklist:backfilled")).thenReturn(true);
+    }
+}
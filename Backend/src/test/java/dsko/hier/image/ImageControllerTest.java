@@ -14,6 +14,7 @@ import dsko.hier.global.exception.discord.DiscordService;
 import dsko.hier.global.redis.RedisTokenService;
 import dsko.hier.security.application.CustomUserDetailService;
 import dsko.hier.security.application.JwtTokenProvider;
+import dsko.hier.security.config.JwtProperties;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,9 @@ class ImageControllerTest {
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
     @MockitoBean
     private RedisTokenService redisTokenService;
 
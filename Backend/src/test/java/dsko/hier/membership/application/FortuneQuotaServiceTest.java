@@ -0,0 +1,162 @@
+package dsko.hier.membership.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dsko.hier.global.config.QuotaProperties;
+import dsko.hier.membership.domain.PlanType;
+import dsko.hier.membership.domain.UserPlan;
+import dsko.hier.membership.domain.UserPlanRepository;
+import dsko.hier.security.domain.User;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneQuotaServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private UserPlanRepository userPlanRepository;
+
+    private FortuneQuotaService fortuneQuotaService;
+
+    @BeforeEach
+    void setUp() {
+        fortuneQuotaService = new FortuneQuotaService(stringRedisTemplate, userPlanRepository, new QuotaProperties());
+    }
+
+    @Test
+    @DisplayName("Redis 에 남은 횟수가 있으면 DB 조회 없이 차감에 성공한다")
+    void tryConsume_loaded_success() {
+        // Given
+        when(stringRedisTemplate.execute(anyScript(), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // When
+        boolean result = fortuneQuotaService.tryConsume(EMAIL);
+
+        // Then
+        assertTrue(result);
+        verify(userPlanRepository, never()).findByUserEmail(any());
+    }
+
+    @Test
+    @DisplayName("남은 횟수가 없으면 false 를 반환한다")
+    void tryConsume_noRemaining_fail() {
+        // Given
+        when(stringRedisTemplate.execute(anyScript(), anyList(), any(Object[].class))).thenReturn(0L);
+
+        // When
+        boolean result = fortuneQuotaService.tryConsume(EMAIL);
+
+        // Then
+        assertFalse(result);
+    }
+
+    @Test
+    @DisplayName("Redis 에 사용자 정보가 없으면 MySQL 의 UserPlan 으로 채운 뒤 다시 차감한다")
+    void tryConsume_notLoaded_loadsFromDatabase() {
+        // Given
+        UserPlan userPlan = UserPlan.of(mock(User.class), PlanType.FREE);
+        when(userPlanRepository.findByUserEmail(EMAIL)).thenReturn(Optional.of(userPlan));
+        when(stringRedisTemplate.execute(anyScript(), anyList(), any(Object[].class)))
+                .thenReturn(-2L)  // 차감 시도: 없음
+                .thenReturn(1L)   // 적재
+                .thenReturn(1L);  // 차감 재시도
+
+        // When
+        boolean result = fortuneQuotaService.tryConsume(EMAIL);
+
+        // Then
+        assertTrue(result);
+        verify(userPlanRepository, times(1)).findByUserEmail(EMAIL);
+        verify(stringRedisTemplate, times(3)).execute(anyScript(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("변경된 사용자의 남은 횟수를 DB 에 일괄 반영한다")
+    @SuppressWarnings("unchecked")
+    void writeBack_flushesDirtyUsers() {
+        // Given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(setOperations.pop(eq("quota:dirty"), any(Long.class)))
+                .thenReturn(List.of(EMAIL))
+                .thenReturn(List.of());
+        when(hashOperations.get("quota:" + EMAIL, "remaining")).thenReturn("2");
+
+        // When
+        fortuneQuotaService.writeBack();
+
+        // Then
+        verify(userPlanRepository).updateFreeFortuneCounts(Map.of(EMAIL, 2));
+    }
+
+    @Test
+    @DisplayName("유료 플랜의 남은 횟수는 기존과 같이 UserPlan 값(Integer.MAX_VALUE)으로 조회된다")
+    @SuppressWarnings("unchecked")
+    void getRemaining_paidPlan_keepsUserPlanValue() {
+        // Given
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get("quota:" + EMAIL, "remaining"))
+                .thenReturn(null)
+                .thenReturn(String.valueOf(Integer.MAX_VALUE));
+        when(userPlanRepository.findByUserEmail(EMAIL))
+                .thenReturn(Optional.of(UserPlan.of(mock(User.class), PlanType.PREMIUM)));
+
+        // When
+        int remaining = fortuneQuotaService.getRemaining(EMAIL);
+
+        // Then
+        assertEquals(Integer.MAX_VALUE, remaining);
+        verify(stringRedisTemplate).execute(anyScript(), eq(List.of("quota:" + EMAIL)),
+                eq("PREMIUM"), eq(String.valueOf(Integer.MAX_VALUE)), any());
+    }
+
+    @Test
+    @DisplayName("사용자 정보를 지우면 Redis 횟수 키와 반영 대기 항목을 함께 삭제한다")
+    @SuppressWarnings("unchecked")
+    void evict_deletesKeyAndDirtyEntry() {
+        // Given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // When
+        fortuneQuotaService.evict(EMAIL);
+
+        // Then
+        verify(stringRedisTemplate).delete("quota:" + EMAIL);
+        verify(setOperations).remove("quota:dirty", EMAIL);
+    }
+
+    // 타입이 있는 매처 (any(RedisScript.class) 는 unchecked 경고)
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
@@ -68,4 +68,21 @@ class CustomUserDetailsTest {
         assertThat(customUserDetails.isCredentialsNonExpired()).isTrue();
         assertThat(customUserDetails.isEnabled()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰 클레임으로 만든 UserDetails는 DB 계정 없이 username과 권한을 반환하고 ROLE_ 접두사를 한 번만 붙인다")
+    void customUserDetails_from_claims() {
+        // When
+        CustomUserDetails prefixed = CustomUserDetails.fromClaims("testuser@example.com", "ROLE_ADMIN");
+        CustomUserDetails plain = CustomUserDetails.fromClaims("testuser@example.com", "ADMIN");
+        CustomUserDetails doubled = CustomUserDetails.fromClaims("testuser@example.com", "ROLE_ROLE_ADMIN");
+
+        // Then
+        assertThat(prefixed.getUsername()).isEqualTo("testuser@example.com");
+        assertThat(prefixed.getPassword()).isNull();
+        assertThat(prefixed.getEmailPasswordAccount()).isNull();
+        assertThat(prefixed.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(plain.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(doubled.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+}
@@ -0,0 +1,149 @@
+package dsko.hier.security.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dsko.hier.security.config.JwtProperties;
+import dsko.hier.security.config.JwtProperties.SigningKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+    private static final String TEST_SECRET = "testsecretkeytestsecretkeytestsecretkeytestsecretkey";
+
+    @Test
+    @DisplayName("활성 ES256 키로 서명하면 헤더에 kid 가 들어가고 공개 키로 검증된다")
+    void es256_signsWithKid() throws Exception {
+        // Given
+        SigningKey key = signingKey("es-1", "ES256", ecKeyPair(), true);
+        JwtTokenProvider provider = provider("es-1", key);
+
+        // When
+        String token = provider.createAccessToken("user@example.com", "USER");
+
+        // Then
+        assertThat(header(token)).containsEntry("kid", "es-1").containsEntry("alg", "ES256");
+        assertThat(provider.verify(token)).isPresent();
+    }
+
+    @Test
+    @DisplayName("EdDSA(Ed25519) 키로도 서명하고 검증할 수 있다")
+    void eddsa_signsAndVerifies() throws Exception {
+        // Given
+        SigningKey key = signingKey("ed-1", "EdDSA", KeyPairGenerator.getInstance("Ed25519").generateKeyPair(), true);
+        JwtTokenProvider provider = provider("ed-1", key);
+
+        // When
+        String token = provider.createAccessToken("user@example.com", "USER");
+
+        // Then
+        assertThat(header(token)).containsEntry("kid", "ed-1").containsEntry("alg", "EdDSA");
+        assertThat(provider.verify(token)).isPresent();
+        assertThat(provider.getJwkSet()).contains("\"kty\":\"OKP\"").contains("\"crv\":\"Ed25519\"");
+    }
+
+    @Test
+    @DisplayName("키를 교체해도 검증 전용으로 남겨 둔 이전 키로 서명된 토큰은 계속 검증된다")
+    void rotation_keepsVerifyOnlyKey() throws Exception {
+        // Given
+        KeyPair oldPair = ecKeyPair();
+        KeyPair newPair = ecKeyPair();
+        String oldToken = provider("old", signingKey("old", "ES256", oldPair, true))
+                .createAccessToken("user@example.com", "USER");
+
+        // When
+        JwtTokenProvider rotated = provider("new",
+                signingKey("new", "ES256", newPair, true),
+                signingKey("old", "ES256", oldPair, false));
+        JwtTokenProvider oldKeyRemoved = provider("new", signingKey("new", "ES256", newPair, true));
+
+        // Then
+        assertThat(rotated.verify(oldToken)).isPresent();
+        assertThat(header(rotated.createAccessToken("user@example.com", "USER"))).containsEntry("kid", "new");
+        assertThat(oldKeyRemoved.verify(oldToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비대칭 키로 전환한 뒤에도 kid 가 없는 기존 HS256 토큰은 secret 으로 검증된다")
+    void hs256Fallback_verifiesLegacyToken() throws Exception {
+        // Given
+        String legacyToken = provider(null).createAccessToken("user@example.com", "USER");
+        JwtTokenProvider provider = provider("es-1", signingKey("es-1", "ES256", ecKeyPair(), true));
+
+        // When & Then
+        assertThat(header(legacyToken)).doesNotContainKey("kid");
+        assertThat(provider.verify(legacyToken)).isPresent();
+    }
+
+    @Test
+    @DisplayName("JWKS 에는 모든 검증 키의 공개 키만 포함된다")
+    void jwks_containsPublicKeysOnly() throws Exception {
+        // Given
+        JwtTokenProvider provider = provider("new",
+                signingKey("new", "ES256", ecKeyPair(), true),
+                signingKey("old", "ES256", ecKeyPair(), false));
+
+        // When
+        String jwks = provider.getJwkSet();
+
+        // Then
+        assertThat(jwks).contains("\"kid\":\"new\"").contains("\"kid\":\"old\"").contains("\"use\":\"sig\"");
+        assertThat(jwks).doesNotContain("\"d\":").doesNotContain(TEST_SECRET);
+    }
+
+    @Test
+    @DisplayName("활성 키에 개인 키가 없으면 기동 시 실패한다")
+    void activeKeyWithoutPrivateKey_failsFast() throws Exception {
+        // Given
+        SigningKey verifyOnly = signingKey("es-1", "ES256", ecKeyPair(), false);
+
+        // When & Then
+        assertThatThrownBy(() -> provider("es-1", verifyOnly))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("es-1");
+    }
+
+    private static JwtTokenProvider provider(String activeKeyId, SigningKey... keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(TEST_SECRET);
+        properties.setAccessExpirationMinutes(30);
+        properties.setActiveKeyId(activeKeyId);
+        properties.setSigningKeys(List.of(keys));
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.initSecretKey();
+        return provider;
+    }
+
+    private static SigningKey signingKey(String kid, String algorithm, KeyPair pair, boolean withPrivateKey) {
+        SigningKey key = new SigningKey();
+        key.setKid(kid);
+        key.setAlgorithm(algorithm);
+        key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    // 서명 검증 없이 헤더만 확인
+    private static Map<String, Object> header(String token) throws Exception {
+        byte[] json = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        return new ObjectMapper().readValue(json, new TypeReference<>() {
+        });
+    }
+}
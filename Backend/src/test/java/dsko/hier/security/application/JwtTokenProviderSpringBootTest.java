@@ -46,12 +46,14 @@ class JwtTokenProviderSpringBootTest {
         String role = "USER";
 
         // When
-        String refreshToken = jwtTokenProvider.createRefreshToken(username, role);
+        String refreshToken = jwtTokenProvider.createRefreshToken(username, role, "family-1", "refresh-jti");
 
         // Then
         assertThat(refreshToken).isNotNull();
         assertThat(jwtTokenProvider.validateToken(refreshToken)).isTrue();
         assertThat(jwtTokenProvider.getUsernameFromToken(refreshToken)).isEqualTo(username);
         assertThat(jwtTokenProvider.getRoleFromToken(refreshToken)).isEqualTo("ROLE_" + role);
+        assertThat(jwtTokenProvider.getFamilyIdFromToken(refreshToken)).isEqualTo("family-1");
+        assertThat(jwtTokenProvider.getJwtIdFromToken(refreshToken)).isEqualTo("refresh-jti");
     }
 }
\ No newline at end of file
@@ -6,7 +6,9 @@ import static org.mockito.Mockito.when;
 import dsko.hier.security.config.JwtProperties;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -78,4 +80,41 @@ class JwtTokenProviderTest {
         // Then
         assertThat(isValid).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰을 한 번 파싱해 jti, username, role 클레임을 함께 반환한다")
+    void testVerifyReturnsClaims() {
+        // Given
+        when(jwtProperties.getAccessExpirationMinutes()).thenReturn(30L);
+        String token = jwtTokenProvider.createAccessToken("user@example.com", "USER");
+
+        // When
+        Optional<VerifiedClaims> claims = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().jwtId()).isNotNull();
+        assertThat(claims.get().username()).isEqualTo("user@example.com");
+        assertThat(claims.get().role()).isEqualTo("ROLE_USER");
+        assertThat(claims.get().category()).isEqualTo("access");
+        assertThat(claims.get().expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("캐시가 켜져 있으면 같은 토큰은 다시 검증하지 않고 캐시된 클레임을 반환한다")
+    void testVerifyUsesCache() {
+        // Given
+        when(jwtProperties.getVerifiedCacheMaximumSize()).thenReturn(100L);
+        when(jwtProperties.getAccessExpirationMinutes()).thenReturn(30L);
+        jwtTokenProvider.initSecretKey();
+        String token = jwtTokenProvider.createAccessToken("user@example.com", "USER");
+
+        // When
+        VerifiedClaims first = jwtTokenProvider.verify(token).orElseThrow();
+        VerifiedClaims second = jwtTokenProvider.verify(token).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtTokenProvider.verify(token + "x")).isEmpty();
+    }
+}
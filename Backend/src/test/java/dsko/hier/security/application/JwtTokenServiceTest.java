@@ -2,18 +2,24 @@ package dsko.hier.security.application;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import dsko.hier.global.redis.RedisTokenService;
+import dsko.hier.global.redis.RefreshTokenStore;
+import dsko.hier.global.redis.RefreshTokenStore.RotationResult;
 import dsko.hier.security.dto.response.TokenResponse;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +27,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class JwtTokenServiceTest {
 
+    private static final Duration REFRESH_TTL = Duration.ofDays(14);
+
     @InjectMocks
     private JwtTokenService jwtTokenService;
 
@@ -28,21 +36,21 @@ class JwtTokenServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private RedisTokenService redisTokenService;
+    private RefreshTokenStore refreshTokenStore;
 
     @Test
-    @DisplayName("토큰 발급이 성공적으로 수행되고, 리프레시 토큰이 레디스에 저장되어야 한다")
-    void issueJwtAuth_shouldIssueTokensAndSaveRefreshToken() {
+    @DisplayName("토큰 발급이 성공적으로 수행되고, 새 토큰 패밀리가 레디스에 저장되어야 한다")
+    void issueJwtAuth_shouldIssueTokensAndStartFamily() {
         // Given
         String userEmail = "test@example.com";
         String role = "USER";
         String accessToken = "mock-access-token";
         String refreshToken = "mock-refresh-token";
-        LocalDateTime expiration = LocalDateTime.now().plusHours(1);
 
-        when(jwtTokenProvider.createAccessToken(userEmail, role)).thenReturn(accessToken);
-        when(jwtTokenProvider.createRefreshToken(userEmail, role)).thenReturn(refreshToken);
-        when(jwtTokenProvider.getExpirationDateFromToken(refreshToken)).thenReturn(expiration);
+        when(jwtTokenProvider.createAccessToken(eq(userEmail), eq(role), anyString())).thenReturn(accessToken);
+        when(jwtTokenProvider.createRefreshToken(eq(userEmail), eq(role), anyString(), anyString()))
+                .thenReturn(refreshToken);
+        when(jwtTokenProvider.getRefreshTokenTtl()).thenReturn(REFRESH_TTL);
 
         // When
         TokenResponse response = jwtTokenService.issueJwtAuth(userEmail, role);
@@ -51,28 +59,30 @@ class JwtTokenServiceTest {
         Assertions.assertThat(response.accessToken()).isEqualTo(accessToken);
         Assertions.assertThat(response.refreshToken()).isEqualTo(refreshToken);
 
-        // RedisService의 saveRefreshToken 메서드가 올바른 인자들로 호출되었는지 검증
-        verify(redisTokenService).saveRefreshToken(any(String.class), any(String.class), anyLong());
+        // 토큰에 넣은 패밀리 ID / jti 로 패밀리가 시작되었는지 검증
+        ArgumentCaptor<String> familyId = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> tokenId = ArgumentCaptor.forClass(String.class);
+        verify(jwtTokenProvider).createRefreshToken(eq(userEmail), eq(role), familyId.capture(), tokenId.capture());
+        verify(jwtTokenProvider).createAccessToken(userEmail, role, familyId.getValue());
+        verify(refreshTokenStore).startFamily(userEmail, familyId.getValue(), tokenId.getValue(), REFRESH_TTL);
     }
 
     @Test
-    @DisplayName("유효한 리프레시 토큰으로 새로운 토큰을 성공적으로 재발급해야 한다")
-    void reissueJwtToken_shouldIssueNewTokens() {
+    @DisplayName("유효한 리프레시 토큰으로 같은 패밀리의 새로운 토큰을 성공적으로 재발급해야 한다")
+    void reissueJwtToken_shouldRotateAndIssueNewTokens() {
         // Given
         String oldRefreshToken = "old-refresh-token";
         String username = "testuser";
-        String role = "USER";
-        LocalDateTime futureExpiration = LocalDateTime.now().plusHours(1);
         TokenResponse newTokens = new TokenResponse("new-access-token", "new-refresh-token");
 
-        when(jwtTokenProvider.getUsernameFromToken(oldRefreshToken)).thenReturn(username);
-        when(jwtTokenProvider.getRoleFromToken(oldRefreshToken)).thenReturn(role);
-        when(jwtTokenProvider.validateToken(oldRefreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getExpirationDateFromToken(oldRefreshToken)).thenReturn(futureExpiration);
-        when(redisTokenService.getRefreshToken(username)).thenReturn(oldRefreshToken);
-        when(jwtTokenProvider.createAccessToken(username, role)).thenReturn(newTokens.accessToken());
-        when(jwtTokenProvider.createRefreshToken(username, role)).thenReturn(newTokens.refreshToken());
-        when(jwtTokenProvider.getExpirationDateFromToken(newTokens.refreshToken())).thenReturn(futureExpiration);
+        when(jwtTokenProvider.verify(oldRefreshToken)).thenReturn(Optional.of(
+                refreshClaims(username, "family-1", "jti-1", Instant.now().plusSeconds(3600))));
+        when(jwtTokenProvider.getRefreshTokenTtl()).thenReturn(REFRESH_TTL);
+        when(refreshTokenStore.rotate(eq(username), eq("family-1"), eq("jti-1"), anyString(), eq(REFRESH_TTL)))
+                .thenReturn(RotationResult.ROTATED);
+        when(jwtTokenProvider.createAccessToken(username, "USER", "family-1")).thenReturn(newTokens.accessToken());
+        when(jwtTokenProvider.createRefreshToken(eq(username), eq("USER"), eq("family-1"), anyString()))
+                .thenReturn(newTokens.refreshToken());
 
         // When
         TokenResponse response = jwtTokenService.reissueJwtToken(oldRefreshToken);
@@ -80,7 +90,13 @@ class JwtTokenServiceTest {
         // Then
         Assertions.assertThat(response.accessToken()).isEqualTo(newTokens.accessToken());
         Assertions.assertThat(response.refreshToken()).isEqualTo(newTokens.refreshToken());
-        verify(redisTokenService, times(1)).getRefreshToken(username);
+
+        // 패밀리에 저장한 새 jti 로 리프레시 토큰을 발급했는지 검증
+        ArgumentCaptor<String> newTokenId = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenStore, times(1))
+                .rotate(eq(username), eq("family-1"), eq("jti-1"), newTokenId.capture(), eq(REFRESH_TTL));
+        verify(jwtTokenProvider).createRefreshToken(username, "USER", "family-1", newTokenId.getValue());
+        Assertions.assertThat(newTokenId.getValue()).isNotEqualTo("jti-1");
     }
 
     @Test
@@ -88,9 +104,7 @@ class JwtTokenServiceTest {
     void reissueJwtToken_shouldThrowExceptionForInvalidToken() {
         // Given
         String invalidRefreshToken = "invalid-token";
-        when(jwtTokenProvider.getUsernameFromToken(invalidRefreshToken)).thenReturn("user");
-        when(jwtTokenProvider.getRoleFromToken(invalidRefreshToken)).thenReturn("USER");
-        when(jwtTokenProvider.validateToken(invalidRefreshToken)).thenReturn(false);
+        when(jwtTokenProvider.verify(invalidRefreshToken)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> jwtTokenService.reissueJwtToken(invalidRefreshToken))
@@ -103,11 +117,8 @@ class JwtTokenServiceTest {
     void reissueJwtToken_shouldThrowExceptionForExpiredToken() {
         // Given
         String expiredRefreshToken = "expired-token";
-        String username = "testuser";
-        when(jwtTokenProvider.getUsernameFromToken(expiredRefreshToken)).thenReturn(username);
-        when(jwtTokenProvider.validateToken(expiredRefreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getExpirationDateFromToken(expiredRefreshToken)).thenReturn(
-                LocalDateTime.now().minusHours(1));
+        when(jwtTokenProvider.verify(expiredRefreshToken)).thenReturn(Optional.of(
+                refreshClaims("testuser", "family-1", "jti-1", Instant.now().minusSeconds(3600))));
 
         // When & Then
         assertThatThrownBy(() -> jwtTokenService.reissueJwtToken(expiredRefreshToken))
@@ -116,23 +127,56 @@ class JwtTokenServiceTest {
     }
 
     @Test
-    @DisplayName("레디스의 토큰과 일치하지 않을 경우 예외를 던져야 한다")
-    void reissueJwtToken_shouldThrowExceptionForMismatchedToken() {
+    @DisplayName("액세스 토큰으로는 재발급할 수 없다")
+    void reissueJwtToken_shouldRejectAccessToken() {
+        // Given
+        String accessToken = "access-token";
+        when(jwtTokenProvider.verify(accessToken)).thenReturn(Optional.of(new VerifiedClaims(
+                "jti-1", "testuser", "ROLE_USER", "access", "family-1", Instant.now().plusSeconds(600))));
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenService.reissueJwtToken(accessToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid refresh token");
+        verify(refreshTokenStore, never()).rotate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("패밀리 정보가 없는 예전 리프레시 토큰은 재발급하지 않는다")
+    void reissueJwtToken_shouldRejectLegacyToken() {
         // Given
-        String clientRefreshToken = "client-refresh-token";
-        String redisRefreshToken = "redis-refresh-token";
+        String legacyRefreshToken = "legacy-refresh-token";
+        when(jwtTokenProvider.verify(legacyRefreshToken)).thenReturn(Optional.of(
+                refreshClaims("testuser", null, null, Instant.now().plusSeconds(3600))));
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenService.reissueJwtToken(legacyRefreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid refresh token");
+        verify(refreshTokenStore, never()).rotate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레시 토큰을 재사용하면 예외를 던지고 새 토큰을 발급하지 않는다")
+    void reissueJwtToken_shouldThrowExceptionForReusedToken() {
+        // Given
+        String reusedRefreshToken = "reused-refresh-token";
         String username = "testuser";
-        LocalDateTime futureExpiration = LocalDateTime.now().plusHours(1);
 
-        when(jwtTokenProvider.getUsernameFromToken(clientRefreshToken)).thenReturn(username);
-        when(jwtTokenProvider.getRoleFromToken(clientRefreshToken)).thenReturn("USER");
-        when(jwtTokenProvider.validateToken(clientRefreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getExpirationDateFromToken(clientRefreshToken)).thenReturn(futureExpiration);
-        when(redisTokenService.getRefreshToken(username)).thenReturn(redisRefreshToken);
+        when(jwtTokenProvider.verify(reusedRefreshToken)).thenReturn(Optional.of(
+                refreshClaims(username, "family-1", "jti-old", Instant.now().plusSeconds(3600))));
+        when(jwtTokenProvider.getRefreshTokenTtl()).thenReturn(REFRESH_TTL);
+        when(refreshTokenStore.rotate(eq(username), eq("family-1"), eq("jti-old"), anyString(), eq(REFRESH_TTL)))
+                .thenReturn(RotationResult.REUSED);
 
         // When & Then
-        assertThatThrownBy(() -> jwtTokenService.reissueJwtToken(clientRefreshToken))
+        assertThatThrownBy(() -> jwtTokenService.reissueJwtToken(reusedRefreshToken))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Invalid refresh token");
+        verify(jwtTokenProvider, never()).createRefreshToken(any(), any(), any(), any());
+    }
+
+    private static VerifiedClaims refreshClaims(String username, String familyId, String jti, Instant expiresAt) {
+        return new VerifiedClaims(jti, username, "ROLE_USER", "refresh", familyId, expiresAt);
     }
-}
\ No newline at end of file
+}
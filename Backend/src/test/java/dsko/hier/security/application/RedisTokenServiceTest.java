@@ -1,11 +1,16 @@
 package dsko.hier.security.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dsko.hier.global.redis.RedisTokenService;
+import dsko.hier.global.redis.RefreshTokenStore;
+import dsko.hier.global.redis.TokenBlacklistCache;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,61 +28,41 @@ class RedisTokenServiceTest {
     private RedisTokenService redisTokenService;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private StringRedisTemplate redisTemplate;
 
     @Mock
     private ValueOperations<String, String> valueOperations;
 
-    @Test
-    @DisplayName("리프레시 토큰을 성공적으로 저장해야 한다")
-    void saveRefreshTokenTest() {
-        // Given
-        String username = "user123";
-        String token = "sample-refresh-token";
-        long expiration = 3600000L;
-
-        // RedisTemplate의 opsForValue()가 모의 객체를 반환하도록 설정
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-        // When
-        redisTokenService.saveRefreshToken(username, token, expiration);
+    @Mock
+    private TokenBlacklistCache tokenBlacklistCache;
 
-        // Then
-        // opsForValue().set()가 올바른 인자들로 호출되었는지 검증
-        verify(valueOperations, times(1)).set("refresh:user123", token, expiration, TimeUnit.MILLISECONDS);
-    }
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
 
     @Test
-    @DisplayName("리프레시 토큰을 성공적으로 조회해야 한다")
-    void getRefreshTokenTest() {
+    @DisplayName("리프레시 토큰을 성공적으로 삭제해야 한다")
+    void deleteRefreshTokenTest() {
         // Given
         String username = "user123";
-        String token = "sample-refresh-token";
-
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get("refresh:user123")).thenReturn(token);
 
         // When
-        String result = redisTokenService.getRefreshToken(username);
+        redisTokenService.deleteRefreshToken(username);
 
         // Then
-        assertThat(result).isEqualTo(token);
-        // opsForValue().get()가 올바른 인자들로 호출되었는지 검증
-        verify(valueOperations, times(1)).get("refresh:user123");
+        // 사용자의 모든 패밀리를 무효화하고, 예전 방식의 키도 삭제
+        verify(refreshTokenStore, times(1)).revokeUser(username);
+        verify(redisTemplate, times(1)).delete("refresh:user123");
     }
 
     @Test
-    @DisplayName("리프레시 토큰을 성공적으로 삭제해야 한다")
-    void deleteRefreshTokenTest() {
-        // Given
-        String username = "user123";
-
+    @DisplayName("전체 초기화 시 키를 지우지 않고 모든 패밀리를 무효화한다")
+    void clearAllTest() {
         // When
-        redisTokenService.deleteRefreshToken(username);
+        redisTokenService.clearAll();
 
         // Then
-        // redisTemplate.delete()가 올바른 인자로 호출되었는지 검증
-        verify(redisTemplate, times(1)).delete("refresh:user123");
+        verify(refreshTokenStore, times(1)).revokeAll();
+        verify(redisTemplate, never()).delete(anyString());
     }
 
     @Test
@@ -95,6 +80,22 @@ class RedisTokenServiceTest {
         // Then
         // opsForValue().set()가 올바른 인자들로 호출되었는지 검증
         verify(valueOperations, times(1)).set("blacklist:jti-123", "invalidated", expiration, TimeUnit.MILLISECONDS);
+        // 다른 서버의 로컬 필터에도 반영되도록 등록
+        verify(tokenBlacklistCache, times(1)).register(tokenJti, expiration);
+    }
+
+    @Test
+    @DisplayName("사용자 차단은 이메일 키만 저장하고 jti 폐기 목록에는 등록하지 않는다")
+    void addUserToBlacklistTest() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        redisTokenService.addUserToBlacklist("user@example.com");
+
+        // Then
+        verify(valueOperations, times(1)).set("blacklist:user@example.com", "invalidated");
+        verify(tokenBlacklistCache, never()).register(anyString(), anyLong());
     }
 
     @Test
@@ -102,6 +103,7 @@ class RedisTokenServiceTest {
     void isTokenBlacklistedTest() {
         // Given
         String tokenJti = "jti-123";
+        when(tokenBlacklistCache.mightBeRevoked(tokenJti)).thenReturn(true);
         when(redisTemplate.hasKey("blacklist:jti-123")).thenReturn(true);
 
         // When
@@ -112,4 +114,18 @@ class RedisTokenServiceTest {
         // hasKey()가 올바른 인자로 호출되었는지 검증
         verify(redisTemplate, times(1)).hasKey("blacklist:jti-123");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로컬 필터에 없는 토큰은 Redis를 조회하지 않고 블랙리스트가 아니라고 판단한다")
+    void isTokenBlacklisted_skipsRedisOnFilterMiss() {
+        // Given
+        when(tokenBlacklistCache.mightBeRevoked("jti-123")).thenReturn(false);
+
+        // When
+        boolean isBlacklisted = redisTokenService.isTokenBlacklisted("jti-123");
+
+        // Then
+        assertThat(isBlacklisted).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+}
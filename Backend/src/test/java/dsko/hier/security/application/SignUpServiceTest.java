@@ -6,6 +6,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dsko.hier.fortune.application.StatisticsSnapshotService;
 import dsko.hier.global.redis.RedisUserCountService;
 import dsko.hier.membership.application.UserPlanService;
 import dsko.hier.security.domain.BirthInfo;
@@ -44,6 +45,9 @@ class SignUpServiceTest {
     @Mock
     RedisUserCountService redisUserCountService;
 
+    @Mock
+    StatisticsSnapshotService statisticsSnapshotService;
+
     @InjectMocks
     SignUpService signUpService;
 
@@ -9,14 +9,19 @@ import static org.mockito.Mockito.when;
 
 import dsko.hier.global.redis.RedisTokenService;
 import dsko.hier.security.application.CustomUserDetailService;
+import dsko.hier.security.application.CustomUserDetails;
 import dsko.hier.security.application.JwtTokenProvider;
+import dsko.hier.security.application.VerifiedClaims;
+import dsko.hier.security.config.JwtProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +30,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -44,6 +50,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private CustomUserDetailService userDetailsService;
 
+    @Mock
+    private JwtProperties jwtProperties;
+
     @Mock
     private HttpServletRequest request;
 
@@ -73,10 +82,8 @@ class JwtAuthenticationFilterTest {
         UserDetails userDetails = new User(username, "password", Collections.emptyList());
 
         when(request.getHeader("Authorization")).thenReturn(validJwt);
-        when(tokenProvider.validateToken(anyString())).thenReturn(true);
-        when(tokenProvider.getJwtIdFromToken(anyString())).thenReturn(jti);
+        when(tokenProvider.verify(anyString())).thenReturn(Optional.of(claims(jti, username)));
         when(redisTokenService.isTokenBlacklisted(jti)).thenReturn(false);
-        when(tokenProvider.getUsernameFromToken(anyString())).thenReturn(username);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
 
         // When
@@ -87,6 +94,33 @@ class JwtAuthenticationFilterTest {
         assertThat(authentication).isNotNull();
         assertThat(authentication.getPrincipal()).isEqualTo(userDetails);
         verify(filterChain, times(1)).doFilter(request, response);
+        // 토큰은 한 번만 파싱한다
+        verify(tokenProvider, times(1)).verify("valid.jwt.token");
+        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).getUsernameFromToken(anyString());
+    }
+
+    @Test
+    @DisplayName("클레임 모드에서는 DB 조회 없이 토큰 클레임으로 인증 정보를 설정한다")
+    void testClaimsPrincipalAuthentication() throws ServletException, IOException {
+        // Given
+        String jti = "jwt-id-123";
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid.jwt.token");
+        when(tokenProvider.verify(anyString())).thenReturn(Optional.of(claims(jti, "testuser")));
+        when(redisTokenService.isTokenBlacklisted(jti)).thenReturn(false);
+        when(jwtProperties.isClaimsPrincipal()).thenReturn(true);
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOf(CustomUserDetails.class);
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getUsername()).isEqualTo("testuser");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
     }
 
     @Test
@@ -98,8 +132,7 @@ class JwtAuthenticationFilterTest {
 
         when(response.getWriter()).thenReturn(writer);
         when(request.getHeader("Authorization")).thenReturn(blacklistedJwt);
-        when(tokenProvider.validateToken(anyString())).thenReturn(true);
-        when(tokenProvider.getJwtIdFromToken(anyString())).thenReturn(jti);
+        when(tokenProvider.verify(anyString())).thenReturn(Optional.of(claims(jti, "testuser")));
         when(redisTokenService.isTokenBlacklisted(jti)).thenReturn(true);
 
         // When
@@ -121,7 +154,7 @@ class JwtAuthenticationFilterTest {
 
         when(response.getWriter()).thenReturn(writer);
         when(request.getHeader("Authorization")).thenReturn(invalidJwt);
-        when(tokenProvider.validateToken(anyString())).thenReturn(false);
+        when(tokenProvider.verify(anyString())).thenReturn(Optional.empty());
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -133,4 +166,8 @@ class JwtAuthenticationFilterTest {
         verify(filterChain, never()).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
-}
\ No newline at end of file
+
+    private static VerifiedClaims claims(String jti, String username) {
+        return new VerifiedClaims(jti, username, "ROLE_USER", "access", "family-1", Instant.now().plusSeconds(600));
+    }
+}
@@ -23,6 +23,7 @@ import { ThemeProvider } from "./components/ThemeProvider";
 const API_BASE = '';
 const APP_STATS_URL = `${API_BASE}/api/fortune/statistics`;
 const MY_RESULTS_URL = `${API_BASE}/api/fortune/statistics/findAll`;
+const MY_RESULTS_PAGE_SIZE = 100; // 서버 최대 페이지 크기
 
 // ==============================
 // Types
@@ -225,13 +226,25 @@ function App() {
     try {
       const accessToken = localStorage.getItem('accessToken');
       if (!accessToken) throw new Error('no token');
-      const res = await fetch(MY_RESULTS_URL, {
-        method: 'GET',
-        headers: { 'Authorization': `Bearer ${accessToken}`, 'Accept': 'application/json' }
-      });
-      const body: APIResponse<any> = await res.json().catch(() => ({ code: 0, message: '', data: null }));
-      if ((body.code === '200' || body.code === 200) && body.data && Array.isArray(body.data?.results)) {
-        const mappedResults: FortuneResult[] = body.data.results.map((r: any) => {
+      // findAll 은 커서 기반 페이지 응답이라 hasNext 가 false 가 될 때까지 이어서 조회
+      const rawResults: any[] = [];
+      let cursor: string | null = null;
+      let ok = false;
+      do {
+        const params = new URLSearchParams({ size: String(MY_RESULTS_PAGE_SIZE) });
+        if (cursor) params.set('cursor', cursor);
+        const res = await fetch(`${MY_RESULTS_URL}?${params.toString()}`, {
+          method: 'GET',
+          headers: { 'Authorization': `Bearer ${accessToken}`, 'Accept': 'application/json' }
+        });
+        const body: APIResponse<any> = await res.json().catch(() => ({ code: 0, message: '', data: null }));
+        ok = (body.code === '200' || body.code === 200) && !!body.data && Array.isArray(body.data?.results);
+        if (!ok) break;
+        rawResults.push(...body.data.results);
+        cursor = body.data.hasNext ? (body.data.nextCursor ?? null) : null;
+      } while (cursor);
+      if (ok) {
+        const mappedResults: FortuneResult[] = rawResults.map((r: any) => {
           const type: FortuneResult['type'] =
             r.resultType === 'FACE' ? 'physiognomy' :
               r.resultType === 'LIFE_LONG' ? 'lifefortune' :
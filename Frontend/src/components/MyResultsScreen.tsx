@@ -115,15 +115,18 @@ interface MyResultIndexItem {
 
 type GetAllResponseA = {
   success: boolean;
-  data?: { results?: MyResultIndexItem[] } | null;
+  data?: { results?: MyResultIndexItem[]; nextCursor?: string | null; hasNext?: boolean } | null;
 };
 
 type GetAllResponseB = {
   code: number | string;
   message?: string;
-  data?: { results?: MyResultIndexItem[] } | null;
+  data?: { results?: MyResultIndexItem[]; nextCursor?: string | null; hasNext?: boolean } | null;
 };
 
+// findAll 은 커서 기반 페이지 응답(기본 20건)이라 hasNext 가 false 가 될 때까지 이어서 조회
+const MY_RESULT_PAGE_SIZE = 100; // 서버 최대 페이지 크기
+
 function extractResultsFromIndexResponse(raw: any): MyResultIndexItem[] | null {
   if (!raw) return null;
   if (Array.isArray(raw?.data?.results)) return raw.data.results as MyResultIndexItem[];
@@ -132,9 +135,11 @@ function extractResultsFromIndexResponse(raw: any): MyResultIndexItem[] | null {
   return null;
 }
 
-async function fetchMyResultIndex(): Promise<MyResultIndexItem[]> {
+async function fetchMyResultIndexPage(cursor: string | null) {
+  const params = new URLSearchParams({ size: String(MY_RESULT_PAGE_SIZE) });
+  if (cursor) params.set("cursor", cursor);
   const raw = await fetchWithAuthJson<GetAllResponseA | GetAllResponseB>(
-    `${API_BASE}/api/fortune/statistics/findAll`
+    `${API_BASE}/api/fortune/statistics/findAll?${params.toString()}`
   );
 
   const results = extractResultsFromIndexResponse(raw);
@@ -149,7 +154,20 @@ async function fetchMyResultIndex(): Promise<MyResultIndexItem[]> {
     console.warn("[findAll] unexpected response shape:", raw);
     throw new Error("INDEX_API_FAIL");
   }
-  return results;
+  const nextCursor: string | null = (raw as any)?.data?.nextCursor ?? null;
+  const hasNext = !!(raw as any)?.data?.hasNext && !!nextCursor;
+  return { results, nextCursor, hasNext };
+}
+
+async function fetchMyResultIndex(): Promise<MyResultIndexItem[]> {
+  const all: MyResultIndexItem[] = [];
+  let cursor: string | null = null;
+  do {
+    const page = await fetchMyResultIndexPage(cursor);
+    all.push(...page.results);
+    cursor = page.hasNext ? page.nextCursor : null;
+  } while (cursor);
+  return all;
 }
 
 /** ============================
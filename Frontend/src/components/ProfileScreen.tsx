@@ -21,6 +21,7 @@ interface ProfileScreenProps {
 
 /* ====== Logout & API wiring ====== */
 const API_BASE = '';
+const MY_RESULT_PAGE_SIZE = 100; // 서버 최대 페이지 크기
 type APIResponse<T> = { code: number; message: string; data: T | null };
 
 function getAccessToken() {
@@ -89,20 +90,31 @@ export function ProfileScreen({ user, onLogout }: ProfileScreenProps) {
       const at = getAccessToken();
       if (!at) return;
 
-      const res = await fetch(`${API_BASE}/api/fortune/statistics/findAll`, {
-        method: 'GET',
-        headers: { Authorization: `Bearer ${at}`, 'Content-Type': 'application/json' },
-      });
-
-      if (!res.ok) throw new Error(`HTTP ${res.status}`);
-      const body: APIResponse<{
+      // findAll 은 커서 기반 페이지 응답이라 전체 개수를 세려면 마지막 페이지까지 이어서 조회
+      let body: APIResponse<{
         total?: number; physiognomy?: number; lifefortune?: number; dailyfortune?: number; dream?: number;
-        paid?: number; free?: number; results?: FortuneResult[];
-      }> = await res.json();
+        paid?: number; free?: number; results?: FortuneResult[]; nextCursor?: string | null; hasNext?: boolean;
+      }>;
+      const allResults: FortuneResult[] = [];
+      let cursor: string | null = null;
+      do {
+        const params = new URLSearchParams({ size: String(MY_RESULT_PAGE_SIZE) });
+        if (cursor) params.set('cursor', cursor);
+        const res = await fetch(`${API_BASE}/api/fortune/statistics/findAll?${params.toString()}`, {
+          method: 'GET',
+          headers: { Authorization: `Bearer ${at}`, 'Content-Type': 'application/json' },
+        });
+
+        if (!res.ok) throw new Error(`HTTP ${res.status}`);
+        body = await res.json();
+        if (body.code !== 200 || !body.data) break;
+        allResults.push(...(body.data.results ?? []));
+        cursor = body.data.hasNext ? (body.data.nextCursor ?? null) : null;
+      } while (cursor);
 
       if (body.code === 200 && body.data) {
-        if (body.data.results) setUserResults(body.data.results);
-        const resData = body.data.results ?? userResults;
+        setUserResults(allResults);
+        const resData = allResults;
 
         setStats({
           total: body.data.total ?? resData.length,